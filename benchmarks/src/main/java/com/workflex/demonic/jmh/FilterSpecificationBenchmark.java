@@ -0,0 +1,97 @@
+package com.workflex.demonic.jmh;
+
+import com.workflex.demonic.WorkationApplication;
+import com.workflex.demonic.service.SearchMode;
+import com.workflex.demonic.service.WorkationFilter;
+import com.workflex.demonic.service.WorkationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * First page of WorkationService.getAllWorkations filtered by text or by a date window: building the Specification,
+ * the projection query and its COUNT against a seeded in-memory database. Caches are disabled.
+ * 10M rows need a larger heap: {@code -Djmh.args="-p rows=10000000 -jvmArgsAppend -Xmx12g"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class FilterSpecificationBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int rows;
+
+    @Param({"EXACT", "PREFIX", "CONTAINS"})
+    private SearchMode match;
+
+    private ConfigurableApplicationContext context;
+    private WorkationService service;
+    private Pageable firstPage;
+    private WorkationFilter byCountry;
+    private WorkationFilter byEmployee;
+    private WorkationFilter byDateWindow;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(WorkationApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1",
+                        "app.csv.import.enabled=false",
+                        "app.cache.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        SyntheticWorkations.seed(context.getBean(JdbcTemplate.class), rows);
+
+        service = context.getBean(WorkationService.class);
+        firstPage = PageRequest.of(0, 10, Sort.by("id"));
+        byCountry = new WorkationFilter(null, match == SearchMode.CONTAINS ? "roat" : "croatia", null, null, null, null, null, null, match);
+        byEmployee = new WorkationFilter(match == SearchMode.EXACT ? "sarah johnson 42" : "sarah john", null, null, null, null, null, null, null, match);
+        // Trips abroad in the first week of the seeded range, up to 30 days; the match mode does not apply
+        byDateWindow = new WorkationFilter(null, null, null, null, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 7),
+                null, 30, match);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<?> filterByCountry() {
+        return service.getAllWorkations(firstPage, byCountry);
+    }
+
+    @Benchmark
+    public Page<?> filterByEmployee() {
+        return service.getAllWorkations(firstPage, byEmployee);
+    }
+
+    @Benchmark
+    public Page<?> filterByDateWindow() {
+        return service.getAllWorkations(firstPage, byDateWindow);
+    }
+}
@@ -0,0 +1,62 @@
+package com.workflex.demonic.jmh;
+
+import com.workflex.demonic.dto.WorkationMapper;
+import com.workflex.demonic.dto.WorkationRequestDto;
+import com.workflex.demonic.model.Workation;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WorkationMapper over a whole dataset: entity to response DTO (every read path) and request
+ * DTO to entity (create, batch and CSV import).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class MapperBenchmark {
+
+    @Param({"10000", "100000", "1000000", "10000000"})
+    private int rows;
+
+    private WorkationMapper mapper;
+    private List<Workation> entities;
+    private List<WorkationRequestDto> requests;
+
+    @Setup
+    public void setUp() {
+        mapper = Mappers.getMapper(WorkationMapper.class);
+        entities = SyntheticWorkations.entities(rows);
+        requests = SyntheticWorkations.requests(rows);
+    }
+
+    @Benchmark
+    public void toResponseDto(Blackhole blackhole) {
+        for (Workation workation : entities) {
+            blackhole.consume(mapper.toResponseDto(workation));
+        }
+    }
+
+    @Benchmark
+    public void toEntity(Blackhole blackhole) {
+        for (WorkationRequestDto request : requests) {
+            blackhole.consume(mapper.toEntity(request));
+        }
+    }
+}
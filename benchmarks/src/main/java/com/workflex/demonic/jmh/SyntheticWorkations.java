@@ -0,0 +1,142 @@
+package com.workflex.demonic.jmh;
+
+import com.workflex.demonic.dto.WorkationRequestDto;
+import com.workflex.demonic.model.Risk;
+import com.workflex.demonic.model.Workation;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic workation datasets (seed 42), as entities, request DTOs, CSV in the
+ * import layout or rows seeded into the database. Names, countries and dates come from small
+ * pools so datasets of 10M rows still fit in a few GB of heap.
+ */
+public final class SyntheticWorkations {
+
+    static final String[] FIRST_NAMES = {"Sarah", "Michael", "Emma", "James", "Olivia", "Liam", "Sophia", "Noah",
+            "Isabella", "Lucas", "Mia", "Ethan", "Amelia", "Mason", "Harper", "Logan"};
+    static final String[] LAST_NAMES = {"Johnson", "Chen", "Rodriguez", "Wilson", "Garcia", "Miller", "Davis",
+            "Martinez", "Lopez", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin", "Lee"};
+    static final String[] COUNTRIES = {"United States", "Germany", "Spain", "Portugal", "France", "Italy", "Japan",
+            "Singapore", "Mexico", "Thailand", "United Kingdom", "Canada", "Brazil", "Greece", "Croatia", "Australia"};
+
+    private static final LocalDate FIRST_START = LocalDate.of(2024, 1, 1);
+    private static final int START_DAYS = 3 * 365;
+    private static final int MAX_DAYS = 365;
+    private static final int SEED_BATCH = 10_000;
+    private static final String INSERT_SQL =
+            "INSERT INTO workation (id, employee, country, country_dest, start_date, end_date, days, risk, " +
+            "employee_search, country_search, country_dest_search) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String[] EMPLOYEES = new String[FIRST_NAMES.length * LAST_NAMES.length];
+    private static final Date[] DATES = new Date[START_DAYS + MAX_DAYS + 1];
+
+    static {
+        for (int i = 0; i < EMPLOYEES.length; i++) {
+            EMPLOYEES[i] = FIRST_NAMES[i / LAST_NAMES.length] + " " + LAST_NAMES[i % LAST_NAMES.length];
+        }
+        for (int i = 0; i < DATES.length; i++) {
+            DATES[i] = Date.from(FIRST_START.plusDays(i).atStartOfDay(ZoneId.systemDefault()).toInstant());
+        }
+    }
+
+    private SyntheticWorkations() {
+    }
+
+    public static List<Workation> entities(int rows) {
+        Random random = new Random(42);
+        List<Workation> workations = new ArrayList<>(rows);
+        for (int id = 1; id <= rows; id++) {
+            int start = random.nextInt(START_DAYS);
+            int days = 1 + random.nextInt(MAX_DAYS);
+            workations.add(new Workation((long) id, EMPLOYEES[random.nextInt(EMPLOYEES.length)],
+                    COUNTRIES[random.nextInt(COUNTRIES.length)], COUNTRIES[random.nextInt(COUNTRIES.length)],
+                    DATES[start], DATES[start + days], days, risk(days), null, null, null, null, null));
+        }
+        return workations;
+    }
+
+    public static List<WorkationRequestDto> requests(int rows) {
+        Random random = new Random(42);
+        List<WorkationRequestDto> requests = new ArrayList<>(rows);
+        for (int id = 1; id <= rows; id++) {
+            int start = random.nextInt(START_DAYS);
+            int days = 1 + random.nextInt(MAX_DAYS);
+            requests.add(new WorkationRequestDto(EMPLOYEES[random.nextInt(EMPLOYEES.length)],
+                    COUNTRIES[random.nextInt(COUNTRIES.length)], COUNTRIES[random.nextInt(COUNTRIES.length)],
+                    DATES[start], DATES[start + days], days, risk(days)));
+        }
+        return requests;
+    }
+
+    /**
+     * A CSV file with a header line and {@code rows} data lines; every 50th employee name is quoted.
+     */
+    public static byte[] csv(int rows) {
+        Random random = new Random(42);
+        StringBuilder csv = new StringBuilder(rows * 96);
+        csv.append("id,employee,country,country_dest,start_date,end_date,days,risk\n");
+        for (int id = 1; id <= rows; id++) {
+            LocalDate start = FIRST_START.plusDays(random.nextInt(START_DAYS));
+            int days = 1 + random.nextInt(MAX_DAYS);
+            String employee = EMPLOYEES[random.nextInt(EMPLOYEES.length)];
+            csv.append(id).append(',')
+                    .append(id % 50 == 0 ? "\"" + employee.replace(' ', ',') + "\"" : employee).append(',')
+                    .append(COUNTRIES[random.nextInt(COUNTRIES.length)]).append(',')
+                    .append(COUNTRIES[random.nextInt(COUNTRIES.length)]).append(',')
+                    .append(start).append(',')
+                    .append(start.plusDays(days)).append(',')
+                    .append(days).append(',')
+                    .append(risk(days).name()).append('\n');
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Replace the workation table contents with {@code rows} synthetic rows (ids 1..rows) and move
+     * the id sequence past them.
+     */
+    public static void seed(JdbcTemplate jdbcTemplate, int rows) {
+        jdbcTemplate.execute("TRUNCATE TABLE workation");
+        Random random = new Random(42);
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH);
+
+        for (int id = 1; id <= rows; id++) {
+            String employee = EMPLOYEES[random.nextInt(EMPLOYEES.length)] + " " + id;
+            String country = COUNTRIES[random.nextInt(COUNTRIES.length)];
+            String countryDest = COUNTRIES[random.nextInt(COUNTRIES.length)];
+            LocalDate start = FIRST_START.plusDays(random.nextInt(START_DAYS));
+            int days = 1 + random.nextInt(MAX_DAYS);
+
+            batch.add(new Object[]{id, employee, country, countryDest,
+                    Timestamp.valueOf(start.atStartOfDay()), Timestamp.valueOf(start.plusDays(days).atStartOfDay()),
+                    days, risk(days).name(), lower(employee), lower(country), lower(countryDest)});
+            if (batch.size() == SEED_BATCH) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+        }
+        jdbcTemplate.execute("ALTER SEQUENCE workation_seq RESTART WITH " + (rows + 1));
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    private static Risk risk(int days) {
+        return days <= 50 ? Risk.NO_RISK : days <= 100 ? Risk.LOW_RISK : Risk.HIGH_RISK;
+    }
+
+    private static String lower(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,247 @@
+package com.workflex.demonic.load;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.workflex.demonic.WorkationApplication;
+import com.workflex.demonic.jmh.SyntheticWorkations;
+import com.workflex.demonic.service.WorkationRollup;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Local load generator: starts the application on a random port with a seeded H2 database (in
+ * memory or file based), replays the configured operation mix from concurrent clients and records
+ * HdrHistogram latencies per operation. Writes {@code results.json} and one {@code .hgrm}
+ * percentile distribution per operation to the output directory.
+ * <p>
+ * With {@code load.baseline} pointing at the results.json of an earlier run it acts as a
+ * regression gate: the process exits with status 1 when an operation's p99 grew by more than
+ * {@code load.max-regression} or its error rate exceeds {@code load.max-error-rate}.
+ */
+public final class LoadTest {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(10);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    LoadTest(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        List<String> failures = new LoadTest(config).run();
+        if (!failures.isEmpty()) {
+            failures.forEach(failure -> System.err.println("REGRESSION: " + failure));
+            System.exit(1);
+        }
+    }
+
+    List<String> run() throws Exception {
+        Files.createDirectories(config.output());
+        try (ConfigurableApplicationContext context = start()) {
+            System.out.printf("Seeding %,d rows...%n", config.rows());
+            SyntheticWorkations.seed(context.getBean(JdbcTemplate.class), config.rows());
+            context.getBean(WorkationRollup.class).rebuild();
+
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+                 HttpClient http = HttpClient.newBuilder().executor(executor).build()) {
+                Workload workload = new Workload(http, "http://localhost:" + port + "/api/v1/workations",
+                        config.rows(), config.mix(), objectMapper);
+
+                System.out.printf("Warming up for %s...%n", config.warmup());
+                drive(executor, workload, config.warmup());
+                System.out.printf("Measuring for %s with %d clients...%n", config.duration(), config.clients());
+                Map<Operation, Stats> results = drive(executor, workload, config.duration());
+
+                print(results);
+                write(results);
+                return gate(results);
+            }
+        }
+    }
+
+    private ConfigurableApplicationContext start() throws IOException {
+        String url;
+        if (config.database().equals("file")) {
+            Path directory = config.output().resolve("db");
+            FileSystemUtils.deleteRecursively(directory);
+            url = "jdbc:h2:file:" + directory.toAbsolutePath().resolve("workations");
+        } else {
+            url = "jdbc:h2:mem:load;DB_CLOSE_DELAY=-1";
+        }
+
+        return new SpringApplicationBuilder(WorkationApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + url,
+                        "spring.threads.virtual.enabled=" + config.virtualThreads(),
+                        "app.cache.enabled=" + config.cache(),
+                        "app.csv.import.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+    }
+
+    /**
+     * Run all clients until the duration has passed. With a target rate each client sends on a fixed
+     * schedule and latency is measured from the scheduled send time, so a stalled server shows up in
+     * the percentiles instead of silently lowering the request rate (coordinated omission).
+     */
+    private Map<Operation, Stats> drive(ExecutorService executor, Workload workload, Duration duration)
+            throws Exception {
+        Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3));
+            errors.put(operation, new AtomicLong());
+        }
+
+        long started = System.nanoTime();
+        long deadline = started + duration.toNanos();
+        long interval = config.rate() > 0 ? (long) (config.clients() * 1_000_000_000L / config.rate()) : 0;
+
+        List<Future<?>> clients = new ArrayList<>(config.clients());
+        for (int i = 0; i < config.clients(); i++) {
+            long offset = interval * i / config.clients();
+            clients.add(executor.submit(() -> {
+                long scheduled = started + offset;
+                while (true) {
+                    if (interval > 0) {
+                        LockSupport.parkNanos(scheduled - System.nanoTime());
+                    }
+                    long sent = interval > 0 ? scheduled : System.nanoTime();
+                    if (sent >= deadline) {
+                        return null;
+                    }
+                    Operation operation = workload.next();
+                    Workload.Outcome outcome;
+                    try {
+                        outcome = workload.execute(operation);
+                    } catch (IOException e) {
+                        outcome = new Workload.Outcome(operation, false);
+                    }
+                    long latency = System.nanoTime() - sent;
+                    if (outcome.ok()) {
+                        histograms.get(outcome.operation()).recordValue(Math.min(latency, HIGHEST_TRACKABLE_NANOS));
+                    } else {
+                        errors.get(outcome.operation()).incrementAndGet();
+                    }
+                    scheduled += interval;
+                }
+            }));
+        }
+        for (Future<?> client : clients) {
+            client.get();
+        }
+
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        Map<Operation, Stats> results = new EnumMap<>(Operation.class);
+        for (Operation operation : config.mix().keySet()) {
+            results.put(operation, Stats.of(histograms.get(operation), errors.get(operation).get(), seconds));
+        }
+        return results;
+    }
+
+    private void print(Map<Operation, Stats> results) {
+        System.out.printf("%n%-8s %10s %8s %10s %10s %10s %10s %10s %10s%n",
+                "op", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        results.forEach((operation, stats) -> System.out.printf("%-8s %10d %8d %10.1f %10.3f %10.3f %10.3f %10.3f %10.3f%n",
+                operation, stats.count(), stats.errors(), stats.throughput(), stats.p50Ms(), stats.p90Ms(),
+                stats.p99Ms(), stats.p999Ms(), stats.maxMs()));
+    }
+
+    private void write(Map<Operation, Stats> results) throws IOException {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("config", Map.of(
+                "rows", config.rows(),
+                "clients", config.clients(),
+                "rate", config.rate(),
+                "duration", config.duration().toString(),
+                "mix", config.mix(),
+                "database", config.database(),
+                "cache", config.cache(),
+                "virtualThreads", config.virtualThreads()));
+        document.put("operations", results);
+        objectMapper.writeValue(config.output().resolve("results.json").toFile(), document);
+
+        for (Map.Entry<Operation, Stats> entry : results.entrySet()) {
+            Path file = config.output().resolve(entry.getKey().name().toLowerCase(Locale.ROOT) + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                entry.getValue().histogram().outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+        }
+        System.out.printf("%nResults written to %s%n", config.output().toAbsolutePath());
+    }
+
+    /**
+     * Compare against the error budget and, when given, the baseline run.
+     */
+    private List<String> gate(Map<Operation, Stats> results) throws IOException {
+        List<String> failures = new ArrayList<>();
+        JsonNode baseline = config.baseline() != null
+                ? objectMapper.readTree(config.baseline().toFile()).path("operations")
+                : objectMapper.createObjectNode();
+
+        results.forEach((operation, stats) -> {
+            long total = stats.count() + stats.errors();
+            if (total > 0 && (double) stats.errors() / total > config.maxErrorRate()) {
+                failures.add("%s error rate %.4f exceeds %.4f".formatted(operation, (double) stats.errors() / total,
+                        config.maxErrorRate()));
+            }
+            JsonNode previous = baseline.path(operation.name()).path("p99Ms");
+            if (previous.isNumber()) {
+                double limit = previous.asDouble() * (1 + config.maxRegression());
+                if (stats.p99Ms() > limit) {
+                    failures.add("%s p99 %.3f ms exceeds baseline %.3f ms + %.0f%%".formatted(operation,
+                            stats.p99Ms(), previous.asDouble(), config.maxRegression() * 100));
+                }
+            }
+        });
+        return failures;
+    }
+
+    /**
+     * Latency summary of one operation in milliseconds; the histogram records nanoseconds.
+     */
+    record Stats(long count, long errors, double throughput, double p50Ms, double p90Ms, double p99Ms,
+                 double p999Ms, double maxMs, @JsonIgnore Histogram histogram) {
+
+        static Stats of(Histogram histogram, long errors, double seconds) {
+            return new Stats(histogram.getTotalCount(), errors, histogram.getTotalCount() / seconds,
+                    histogram.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                    histogram.getValueAtPercentile(90) / NANOS_PER_MILLI,
+                    histogram.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                    histogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                    histogram.getMaxValue() / NANOS_PER_MILLI,
+                    histogram);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.workflex.demonic.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code load.*} system properties.
+ *
+ * @param rows          rows seeded before the run
+ * @param clients       concurrent clients
+ * @param rate          total requests per second across all clients; 0 runs closed-loop (each
+ *                      client sends its next request when the previous one completes)
+ * @param mix           relative weight per operation
+ * @param database      {@code mem} or {@code file} (H2 under the output directory)
+ * @param baseline      results of an earlier run to gate against, or null
+ * @param maxRegression allowed relative p99 increase over the baseline per operation
+ * @param maxErrorRate  allowed share of failed requests per operation
+ */
+public record LoadTestConfig(
+        int rows,
+        int clients,
+        double rate,
+        Duration warmup,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        String database,
+        boolean cache,
+        boolean virtualThreads,
+        Path output,
+        Path baseline,
+        double maxRegression,
+        double maxErrorRate
+) {
+
+    public static LoadTestConfig fromSystemProperties() {
+        String baseline = System.getProperty("load.baseline", "");
+        return new LoadTestConfig(
+                Integer.parseInt(System.getProperty("load.rows", "100000")),
+                Integer.parseInt(System.getProperty("load.clients", "64")),
+                Double.parseDouble(System.getProperty("load.rate", "0")),
+                Duration.parse(System.getProperty("load.warmup", "PT10S")),
+                Duration.parse(System.getProperty("load.duration", "PT60S")),
+                parseMix(System.getProperty("load.mix", "list=40,filter=20,sort=10,get=20,create=4,update=4,delete=2")),
+                System.getProperty("load.database", "mem"),
+                Boolean.parseBoolean(System.getProperty("load.cache", "true")),
+                Boolean.parseBoolean(System.getProperty("load.virtual-threads", "false")),
+                Path.of(System.getProperty("load.output", "target/load")),
+                baseline.isBlank() ? null : Path.of(baseline),
+                Double.parseDouble(System.getProperty("load.max-regression", "0.10")),
+                Double.parseDouble(System.getProperty("load.max-error-rate", "0.001"))
+        );
+    }
+
+    /**
+     * Parse {@code list=40,get=20,...}; operations that are not listed are not run.
+     */
+    static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid load.mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                mix.put(Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("load.mix selects no operations");
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,21 @@
+package com.workflex.demonic.load;
+
+/**
+ * Calls the workload mixes, each recorded in its own latency histogram.
+ */
+public enum Operation {
+    /** GET /api/v1/workations, a random page */
+    LIST,
+    /** GET /api/v1/workations with country/risk filters */
+    FILTER,
+    /** GET /api/v1/workations sorted by a random column */
+    SORT,
+    /** GET /api/v1/workations/{id} */
+    GET,
+    /** POST /api/v1/workations */
+    CREATE,
+    /** PUT /api/v1/workations/{id} */
+    UPDATE,
+    /** DELETE /api/v1/workations/{id} of a row created during the run */
+    DELETE
+}
@@ -0,0 +1,122 @@
+package com.workflex.demonic.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Picks operations by weight and performs them over HTTP. Reads and updates target the seeded rows
+ * (ids 1..rows); deletes only remove rows created during the run, so reads never hit deleted ids.
+ */
+final class Workload {
+
+    private static final String[] COUNTRIES = {"Germany", "Spain", "Croatia", "Japan", "Brazil", "Canada",
+            "Portugal", "Italy"};
+    private static final String[] RISKS = {"NO_RISK", "LOW_RISK", "HIGH_RISK"};
+    private static final String[] SORT_COLUMNS = {"employee", "country", "start_date", "days", "risk"};
+    private static final LocalDate FIRST_START = LocalDate.of(2025, 1, 1);
+    // Every written trip gets its own employee, so the server's overlap check never rejects one
+    private static final AtomicLong EMPLOYEES = new AtomicLong();
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final int seededRows;
+    private final ObjectMapper objectMapper;
+    private final Operation[] weighted;
+    private final ConcurrentLinkedDeque<Long> created = new ConcurrentLinkedDeque<>();
+
+    Workload(HttpClient http, String baseUrl, int seededRows, Map<Operation, Integer> mix, ObjectMapper objectMapper) {
+        this.http = http;
+        this.baseUrl = baseUrl;
+        this.seededRows = seededRows;
+        this.objectMapper = objectMapper;
+        this.weighted = mix.entrySet().stream()
+                .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+                .toArray(Operation[]::new);
+    }
+
+    Operation next() {
+        return weighted[ThreadLocalRandom.current().nextInt(weighted.length)];
+    }
+
+    /**
+     * Perform the operation. A delete with no created row left to remove creates one instead,
+     * so the returned outcome names the operation that actually ran.
+     */
+    Outcome execute(Operation operation) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (operation) {
+            case LIST -> get(operation, "?page=" + random.nextInt(100) + "&size=20");
+            case FILTER -> get(operation, "?match=EXACT&country=" + pick(COUNTRIES)
+                    + (random.nextBoolean() ? "&risk=" + pick(RISKS) : "") + "&page=" + random.nextInt(10));
+            case SORT -> get(operation, "?sortBy=" + pick(SORT_COLUMNS)
+                    + "&sortDirection=" + (random.nextBoolean() ? "ASC" : "DESC") + "&page=" + random.nextInt(10));
+            case GET -> get(operation, "/" + seededId());
+            case CREATE -> create();
+            case UPDATE -> send(operation, HttpRequest.newBuilder(URI.create(baseUrl + "/" + seededId()))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(randomBody())), 200);
+            case DELETE -> {
+                Long id = created.pollFirst();
+                if (id == null) {
+                    yield create();
+                }
+                yield send(operation, HttpRequest.newBuilder(URI.create(baseUrl + "/" + id)).DELETE(), 204);
+            }
+        };
+    }
+
+    private Outcome get(Operation operation, String suffix) throws IOException, InterruptedException {
+        return send(operation, HttpRequest.newBuilder(URI.create(baseUrl + suffix)).GET(), 200);
+    }
+
+    private Outcome create() throws IOException, InterruptedException {
+        HttpResponse<String> response = http.send(HttpRequest.newBuilder(URI.create(baseUrl))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(randomBody()))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 201) {
+            return new Outcome(Operation.CREATE, false);
+        }
+        created.addLast(objectMapper.readTree(response.body()).path("id").asLong());
+        return new Outcome(Operation.CREATE, true);
+    }
+
+    private Outcome send(Operation operation, HttpRequest.Builder request, int expectedStatus)
+            throws IOException, InterruptedException {
+        HttpResponse<Void> response = http.send(request.build(), HttpResponse.BodyHandlers.discarding());
+        return new Outcome(operation, response.statusCode() == expectedStatus);
+    }
+
+    private long seededId() {
+        return 1 + ThreadLocalRandom.current().nextInt(seededRows);
+    }
+
+    private static String randomBody() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate start = FIRST_START.plusDays(random.nextInt(365));
+        int days = 1 + random.nextInt(120);
+        String risk = days <= 50 ? "NO_RISK" : days <= 100 ? "LOW_RISK" : "HIGH_RISK";
+        return """
+                {"employee":"Load Test %d","country":"%s","countryDest":"%s","startDate":"%s","endDate":"%s","days":%d,"risk":"%s"}"""
+                .formatted(EMPLOYEES.incrementAndGet(), pick(COUNTRIES), pick(COUNTRIES), start, start.plusDays(days),
+                        days, risk);
+    }
+
+    private static String pick(String[] values) {
+        return values[ThreadLocalRandom.current().nextInt(values.length)];
+    }
+
+    record Outcome(Operation operation, boolean ok) {
+    }
+}
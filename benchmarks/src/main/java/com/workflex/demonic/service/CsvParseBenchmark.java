@@ -0,0 +1,70 @@
+package com.workflex.demonic.service;
+
+import com.workflex.demonic.jmh.SyntheticWorkations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV import parsing without the database: reading the file line by line and either splitting
+ * the fields or parsing them into request DTOs, as CsvDataLoader does. Lives in the service
+ * package for access to the package-private parser.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class CsvParseBenchmark {
+
+    @Param({"10000", "100000", "1000000", "10000000"})
+    private int rows;
+
+    private byte[] csv;
+
+    @Setup
+    public void setUp() {
+        csv = SyntheticWorkations.csv(rows);
+    }
+
+    @Benchmark
+    public void splitLines(Blackhole blackhole) throws IOException {
+        try (BufferedReader reader = reader()) {
+            String line = reader.readLine();
+            while ((line = reader.readLine()) != null) {
+                blackhole.consume(CsvDataLoader.splitLine(line));
+            }
+        }
+    }
+
+    @Benchmark
+    public void parseLines(Blackhole blackhole) throws IOException {
+        try (BufferedReader reader = reader()) {
+            String line = reader.readLine();
+            while ((line = reader.readLine()) != null) {
+                blackhole.consume(CsvDataLoader.parseLine(line));
+            }
+        }
+    }
+
+    private BufferedReader reader() {
+        return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(csv), StandardCharsets.UTF_8));
+    }
+}
@@ -1,5 +1,5 @@
-import { Injectable } from '@angular/core';
-import { HttpClient, HttpParams } from '@angular/common/http';
+import { Injectable, NgZone } from '@angular/core';
+import { HttpClient, HttpHeaders, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
 
 
@@ -24,6 +24,8 @@ export interface WorkationResponse {
   endDate: Date | string;
   days: number;
   risk: RiskLevel;
+  version?: number;
+  lastModified?: Date | string;
 }
 
 export interface PageResponse<T> {
@@ -55,6 +57,16 @@ export interface PageResponse<T> {
   empty: boolean;
 }
 
+export type WorkationChangeType = 'CREATED' | 'UPDATED' | 'DELETED' | 'RESET';
+
+export interface WorkationChange {
+  offset: number;
+  type: WorkationChangeType;
+  id: number | null;
+  workation: WorkationResponse | null;
+  timestamp: string;
+}
+
 export interface WorkationQueryParams {
   page?: number;
   size?: number;
@@ -72,7 +84,7 @@ export interface WorkationQueryParams {
 export class ApiService {
   private apiUrl = 'http://localhost:8080/api/v1/workations';
 
-  constructor(private http: HttpClient) { }
+  constructor(private http: HttpClient, private zone: NgZone) { }
 
   getAllWorkations(params?: WorkationQueryParams): Observable<PageResponse<WorkationResponse>> {
     let httpParams = new HttpParams();
@@ -99,11 +111,31 @@ export class ApiService {
     return this.http.post<WorkationResponse>(this.apiUrl, workation);
   }
 
-  updateWorkation(id: number, workation: WorkationRequest): Observable<WorkationResponse> {
-    return this.http.put<WorkationResponse>(`${this.apiUrl}/${id}`, workation);
+  /**
+   * Pass the ETag the workation was loaded with to reject the update (412) when someone else
+   * changed it in the meantime. GETs need no such handling: responses carry an ETag and the
+   * browser revalidates them with If-None-Match.
+   */
+  updateWorkation(id: number, workation: WorkationRequest, etag?: string): Observable<WorkationResponse> {
+    const headers = etag !== undefined ? new HttpHeaders({ 'If-Match': etag }) : undefined;
+    return this.http.put<WorkationResponse>(`${this.apiUrl}/${id}`, workation, { headers });
   }
 
   deleteWorkation(id: number): Observable<void> {
     return this.http.delete<void>(`${this.apiUrl}/${id}`);
   }
+
+  /**
+   * Committed changes from now on. The browser reconnects on its own and resumes after the last
+   * received event; a RESET means changes were missed and the data should be reloaded.
+   */
+  watchChanges(): Observable<WorkationChange> {
+    return new Observable<WorkationChange>(subscriber => {
+      const source = new EventSource(`${this.apiUrl}/changes`);
+      const forward = (event: MessageEvent) =>
+        this.zone.run(() => subscriber.next(JSON.parse(event.data) as WorkationChange));
+      ['created', 'updated', 'deleted', 'reset'].forEach(type => source.addEventListener(type, forward));
+      return () => source.close();
+    });
+  }
 }
@@ -1,8 +1,9 @@
 
-import { Component, OnInit, signal } from '@angular/core';
+import { Component, OnDestroy, OnInit, signal } from '@angular/core';
 import { CommonModule } from '@angular/common';
 import { FormsModule } from '@angular/forms';
-import { ApiService, WorkationResponse, WorkationRequest, WorkationQueryParams, RiskLevel } from '../shared/services/api.service';
+import { Subscription } from 'rxjs';
+import { ApiService, WorkationResponse, WorkationRequest, WorkationQueryParams, RiskLevel, WorkationChange } from '../shared/services/api.service';
 
 @Component({
   selector: 'app-workations',
@@ -11,7 +12,7 @@ import { ApiService, WorkationResponse, WorkationRequest, WorkationQueryParams,
   templateUrl: './workations.component.html',
   styleUrls: ['./workations.component.scss']
 })
-export class WorkationsComponent implements OnInit {
+export class WorkationsComponent implements OnInit, OnDestroy {
   workations = signal<WorkationResponse[]>([]);
   loading = signal<boolean>(false);
   error = signal<string | null>(null);
@@ -78,6 +79,9 @@ export class WorkationsComponent implements OnInit {
     'Sri Lanka': '🇱🇰'
   };
 
+  private changes?: Subscription;
+  private reloadTimer?: ReturnType<typeof setTimeout>;
+
   constructor(private apiService: ApiService) {}
 
   ngOnInit(): void {
@@ -86,6 +90,33 @@ export class WorkationsComponent implements OnInit {
       sortBy: this.currentSortBy(),
       sortDirection: this.currentSortDirection()
     });
+    this.changes = this.apiService.watchChanges().subscribe(change => this.applyChange(change));
+  }
+
+  ngOnDestroy(): void {
+    this.changes?.unsubscribe();
+    clearTimeout(this.reloadTimer);
+  }
+
+  // Updates are patched into the current page; anything that can move rows between pages
+  // reloads it, coalescing bursts of changes into one request
+  private applyChange(change: WorkationChange): void {
+    if (change.type === 'UPDATED' && change.workation) {
+      const updated = change.workation;
+      if (this.workations().some(w => w.id === updated.id)) {
+        this.workations.update(rows => rows.map(w => w.id === updated.id ? updated : w));
+      }
+      if (this.currentSortBy() === 'id') {
+        return;
+      }
+    }
+    clearTimeout(this.reloadTimer);
+    this.reloadTimer = setTimeout(() => this.loadWorkations({
+      page: this.currentPage(),
+      size: this.pageSize(),
+      sortBy: this.currentSortBy(),
+      sortDirection: this.currentSortDirection()
+    }), 250);
   }
 
   loadWorkations(params?: WorkationQueryParams): void {
@@ -0,0 +1,114 @@
+package com.workflex.demonic.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Times response serialization as {@code workation.serialization}, tagged with the class of the
+ * written body and the format ({@code json}, {@code cbor}, {@code smile}), by swapping the Jackson
+ * converters for timed ones using the same ObjectMappers. The time includes writing to the
+ * response buffer.
+ */
+@Configuration
+public class WebMetricsConfig implements WebMvcConfigurer {
+
+    public static final String SERIALIZATION_TIMER = "workation.serialization";
+
+    private final MeterRegistry meterRegistry;
+
+    public WebMetricsConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(converter -> {
+            if (converter.getClass() == MappingJackson2HttpMessageConverter.class) {
+                return new TimedJacksonConverter(((MappingJackson2HttpMessageConverter) converter).getObjectMapper(),
+                        meterRegistry);
+            }
+            if (converter.getClass() == MappingJackson2CborHttpMessageConverter.class) {
+                return new TimedCborConverter(((MappingJackson2CborHttpMessageConverter) converter).getObjectMapper(),
+                        meterRegistry);
+            }
+            if (converter.getClass() == MappingJackson2SmileHttpMessageConverter.class) {
+                return new TimedSmileConverter(((MappingJackson2SmileHttpMessageConverter) converter).getObjectMapper(),
+                        meterRegistry);
+            }
+            return converter;
+        });
+    }
+
+    private static void timed(MeterRegistry meterRegistry, Object object, String format, IOAction write)
+            throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            write.run();
+        } finally {
+            sample.stop(meterRegistry.timer(SERIALIZATION_TIMER,
+                    "type", object.getClass().getSimpleName(),
+                    "format", format));
+        }
+    }
+
+    private interface IOAction {
+        void run() throws IOException;
+    }
+
+    private static class TimedJacksonConverter extends MappingJackson2HttpMessageConverter {
+
+        private final MeterRegistry meterRegistry;
+
+        TimedJacksonConverter(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+            super(objectMapper);
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+            timed(meterRegistry, object, "json", () -> super.writeInternal(object, type, outputMessage));
+        }
+    }
+
+    private static class TimedCborConverter extends MappingJackson2CborHttpMessageConverter {
+
+        private final MeterRegistry meterRegistry;
+
+        TimedCborConverter(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+            super(objectMapper);
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+            timed(meterRegistry, object, "cbor", () -> super.writeInternal(object, type, outputMessage));
+        }
+    }
+
+    private static class TimedSmileConverter extends MappingJackson2SmileHttpMessageConverter {
+
+        private final MeterRegistry meterRegistry;
+
+        TimedSmileConverter(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+            super(objectMapper);
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+            timed(meterRegistry, object, "smile", () -> super.writeInternal(object, type, outputMessage));
+        }
+    }
+}
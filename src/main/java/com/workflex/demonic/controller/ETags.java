@@ -0,0 +1,129 @@
+package com.workflex.demonic.controller;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Entity tags of workation responses and the parsing of the conditional request headers.
+ * A single workation is tagged with its row version ({@code WorkationService#getVersionTag(long)}),
+ * a list with the change generation of the whole table ({@code WorkationService#getListTag()}); both
+ * carry the instance part of the running application. Binary representations get their own tags
+ * ({@code "m5x2k1-7-cbor"}), since a strong tag must differ between representations of one resource.
+ * List tags are weak: Tomcat does not compress responses carrying a strong tag.
+ */
+final class ETags {
+
+    static final MediaType APPLICATION_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private ETags() {
+    }
+
+    static String of(String tag, Format format) {
+        return "\"" + tag + format.suffix + "\"";
+    }
+
+    static String weak(String tag, Format format) {
+        return "W/" + of(tag, format);
+    }
+
+    /**
+     * Whether an {@code If-None-Match} header matches {@code etag}, using the weak comparison
+     * RFC 9110 prescribes for it.
+     */
+    static boolean noneMatchHits(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || opaque(tag).equals(opaque(etag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaque(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    /**
+     * The version tag an {@code If-Match} header requires, without quotes and format suffix, or null
+     * when there is no header or it is {@code *}. Weak or malformed tags can never match a strong
+     * version tag, so they yield an empty tag.
+     */
+    static String requiredTag(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            return "";
+        }
+        tag = tag.substring(1, tag.length() - 1);
+        for (Format format : Format.values()) {
+            if (format.isBinary() && tag.endsWith(format.suffix)) {
+                return tag.substring(0, tag.length() - format.suffix.length());
+            }
+        }
+        return tag;
+    }
+
+    /**
+     * The response format content negotiation will pick for an {@code Accept} header: the first
+     * of JSON, CBOR and Smile the header accepts, by quality. JSON wins wildcards, as its
+     * converter comes first.
+     */
+    enum Format {
+        JSON(MediaType.APPLICATION_JSON, ""),
+        CBOR(MediaType.APPLICATION_CBOR, "-cbor"),
+        SMILE(APPLICATION_SMILE, "-smile");
+
+        private final MediaType mediaType;
+        private final String suffix;
+
+        Format(MediaType mediaType, String suffix) {
+            this.mediaType = mediaType;
+            this.suffix = suffix;
+        }
+
+        boolean isBinary() {
+            return this != JSON;
+        }
+
+        static Format of(String accept) {
+            if (accept == null || accept.isBlank()) {
+                return JSON;
+            }
+            List<MediaType> accepted;
+            try {
+                accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+            } catch (InvalidMediaTypeException e) {
+                return JSON;
+            }
+            // Stable, so equally weighted types keep the client's order
+            accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+            for (MediaType type : accepted) {
+                if (type.getQualityValue() == 0) {
+                    continue;
+                }
+                if (type.isWildcardType() || type.isWildcardSubtype()) {
+                    if (type.includes(JSON.mediaType)) {
+                        return JSON;
+                    }
+                    continue;
+                }
+                for (Format format : values()) {
+                    if (format.mediaType.isCompatibleWith(type)) {
+                        return format;
+                    }
+                }
+            }
+            return JSON;
+        }
+    }
+}
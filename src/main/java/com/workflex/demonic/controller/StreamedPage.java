@@ -0,0 +1,72 @@
+package com.workflex.demonic.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.workflex.demonic.dto.PageDto;
+import com.workflex.demonic.dto.WorkationResponseDto;
+import com.workflex.demonic.service.PageStream;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * A list page whose rows are written to the response while they are read from the database,
+ * through the generator of the negotiated converter. The content comes first and the totals after
+ * it, in the {@link Page} layout for JSON or the {@link PageDto} layout when {@code slim}.
+ */
+@JsonSerialize(using = StreamedPage.Serializer.class)
+record StreamedPage(PageStream rows, Pageable pageable, boolean slim) {
+
+    static class Serializer extends JsonSerializer<StreamedPage> {
+
+        @Override
+        public void serialize(StreamedPage page, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            JsonSerializer<Object> rowSerializer = provider.findValueSerializer(WorkationResponseDto.class);
+            Pageable pageable = page.pageable();
+            long[] written = new long[1];
+            long total;
+
+            gen.writeStartObject();
+            gen.writeFieldName("content");
+            gen.writeStartArray();
+            try {
+                total = page.rows().forEachRow(row -> {
+                    try {
+                        rowSerializer.serialize(row, gen, provider);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    written[0]++;
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            gen.writeEndArray();
+
+            int size = pageable.getPageSize();
+            int totalPages = (int) ((total + size - 1) / size);
+            if (page.slim()) {
+                gen.writeNumberField("page", pageable.getPageNumber());
+                gen.writeNumberField("size", size);
+                gen.writeNumberField("totalElements", total);
+                gen.writeNumberField("totalPages", totalPages);
+            } else {
+                provider.defaultSerializeField("pageable", pageable, gen);
+                gen.writeBooleanField("last", pageable.getPageNumber() + 1 >= totalPages);
+                gen.writeNumberField("totalPages", totalPages);
+                gen.writeNumberField("totalElements", total);
+                gen.writeNumberField("size", size);
+                gen.writeNumberField("number", pageable.getPageNumber());
+                provider.defaultSerializeField("sort", pageable.getSort(), gen);
+                gen.writeBooleanField("first", pageable.getPageNumber() == 0);
+                gen.writeNumberField("numberOfElements", written[0]);
+                gen.writeBooleanField("empty", written[0] == 0);
+            }
+            gen.writeEndObject();
+        }
+    }
+}
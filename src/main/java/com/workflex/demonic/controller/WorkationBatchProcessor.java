@@ -0,0 +1,216 @@
+package com.workflex.demonic.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workflex.demonic.dto.BatchItemResultDto;
+import com.workflex.demonic.dto.BatchResultDto;
+import com.workflex.demonic.dto.ErrorResponse;
+import com.workflex.demonic.dto.WorkationBatchUpdateDto;
+import com.workflex.demonic.dto.WorkationMapper;
+import com.workflex.demonic.dto.WorkationRequestDto;
+import com.workflex.demonic.exception.WorkationBudgetExceededException;
+import com.workflex.demonic.exception.WorkationConflictException;
+import com.workflex.demonic.exception.WorkationNotFoundException;
+import com.workflex.demonic.exception.WorkationValidationException;
+import com.workflex.demonic.exception.WorkationVersionMismatchException;
+import com.workflex.demonic.model.Workation;
+import com.workflex.demonic.service.BatchItem;
+import com.workflex.demonic.service.WorkationService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Reads batch request bodies (a JSON array or NDJSON) item by item, validates each item and
+ * hands valid items to {@link WorkationService} in chunks of {@code app.batch.chunk-size},
+ * one transaction per chunk. Failures are reported per item and never abort the batch.
+ */
+@Slf4j
+@Component
+public class WorkationBatchProcessor {
+
+    private final WorkationService service;
+    private final WorkationMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int chunkSize;
+
+    public WorkationBatchProcessor(WorkationService service,
+                                   WorkationMapper mapper,
+                                   ObjectMapper objectMapper,
+                                   Validator validator,
+                                   @Value("${app.batch.chunk-size:500}") int chunkSize) {
+        this.service = service;
+        this.mapper = mapper;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+
+    public BatchResultDto create(InputStream body, String path) throws IOException {
+        return process(body, WorkationRequestDto.class, path,
+                (WorkationRequestDto dto) -> null,
+                mapper::toEntity,
+                service::createWorkations,
+                (Workation saved) -> new BatchItemResultDto(0, saved.getId(), HttpStatus.CREATED.value(),
+                        mapper.toResponseDto(saved), null));
+    }
+
+    public BatchResultDto update(InputStream body, String path) throws IOException {
+        return process(body, WorkationBatchUpdateDto.class, path,
+                WorkationBatchUpdateDto::getId,
+                (WorkationBatchUpdateDto dto) -> {
+                    Workation workation = mapper.toEntity(dto);
+                    workation.setId(dto.getId());
+                    return workation;
+                },
+                service::updateWorkations,
+                (Workation updated) -> new BatchItemResultDto(0, updated.getId(), HttpStatus.OK.value(),
+                        mapper.toResponseDto(updated), null));
+    }
+
+    public BatchResultDto delete(InputStream body, String path) throws IOException {
+        return process(body, Long.class, path,
+                (Long id) -> id,
+                (Long id) -> id,
+                service::deleteWorkations,
+                (Long id) -> new BatchItemResultDto(0, id, HttpStatus.NO_CONTENT.value(), null, null));
+    }
+
+    private <I, V, R> BatchResultDto process(InputStream body,
+                                             Class<I> type,
+                                             String path,
+                                             Function<I, Long> idOf,
+                                             Function<I, V> prepare,
+                                             Function<List<V>, List<BatchItem<R>>> execute,
+                                             Function<R, BatchItemResultDto> onSuccess) throws IOException {
+        List<BatchItemResultDto> results = new ArrayList<>();
+        List<Integer> pendingIndexes = new ArrayList<>(chunkSize);
+        List<Long> pendingIds = new ArrayList<>(chunkSize);
+        List<V> pending = new ArrayList<>(chunkSize);
+
+        try (MappingIterator<I> items = objectMapper.readerFor(type).readValues(body)) {
+            while (true) {
+                int index = results.size();
+                I item;
+                try {
+                    if (!items.hasNextValue()) {
+                        break;
+                    }
+                    item = items.nextValue();
+                } catch (JsonProcessingException e) {
+                    // The rest of the stream cannot be parsed reliably, so stop at the malformed item
+                    results.add(failed(index, null, HttpStatus.BAD_REQUEST, "Invalid Request Body",
+                            "Malformed batch item", path, List.of(e.getOriginalMessage())));
+                    break;
+                }
+
+                if (item == null) {
+                    results.add(failed(index, null, HttpStatus.BAD_REQUEST, "Validation Failed",
+                            "Batch item must not be null", path, null));
+                    continue;
+                }
+
+                Set<ConstraintViolation<I>> violations = validator.validate(item);
+                if (!violations.isEmpty()) {
+                    results.add(failed(index, idOf.apply(item), HttpStatus.BAD_REQUEST, "Validation Failed",
+                            "Input validation error. Please check your request.", path,
+                            violations.stream().map(ConstraintViolation::getMessage).toList()));
+                    continue;
+                }
+
+                results.add(null);
+                pendingIndexes.add(index);
+                pendingIds.add(idOf.apply(item));
+                pending.add(prepare.apply(item));
+                if (pending.size() >= chunkSize) {
+                    flush(results, pendingIndexes, pendingIds, pending, execute, onSuccess, path);
+                }
+            }
+        }
+        flush(results, pendingIndexes, pendingIds, pending, execute, onSuccess, path);
+
+        int succeeded = (int) results.stream().filter(result -> result.getError() == null).count();
+        return new BatchResultDto(results.size(), succeeded, results.size() - succeeded, results);
+    }
+
+    private <V, R> void flush(List<BatchItemResultDto> results,
+                              List<Integer> pendingIndexes,
+                              List<Long> pendingIds,
+                              List<V> pending,
+                              Function<List<V>, List<BatchItem<R>>> execute,
+                              Function<R, BatchItemResultDto> onSuccess,
+                              String path) {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<BatchItem<R>> outcomes = execute.apply(pending);
+        for (int i = 0; i < outcomes.size(); i++) {
+            int index = pendingIndexes.get(i);
+            BatchItem<R> outcome = outcomes.get(i);
+            BatchItemResultDto result = outcome.isSuccess()
+                    ? onSuccess.apply(outcome.getValue())
+                    : toFailure(index, pendingIds.get(i), outcome.getError(), path);
+            result.setIndex(index);
+            results.set(index, result);
+        }
+
+        pendingIndexes.clear();
+        pendingIds.clear();
+        pending.clear();
+    }
+
+    private BatchItemResultDto toFailure(int index, Long id, RuntimeException ex, String path) {
+        if (ex instanceof WorkationNotFoundException) {
+            return failed(index, id, HttpStatus.NOT_FOUND, "Not Found", ex.getMessage(), path, null);
+        }
+        if (ex instanceof WorkationConflictException conflict) {
+            return failed(index, id, HttpStatus.CONFLICT, "Conflict", ex.getMessage(), path,
+                    conflict.getConflictingIds().stream().map(String::valueOf).toList());
+        }
+        if (ex instanceof WorkationBudgetExceededException) {
+            return failed(index, id, HttpStatus.CONFLICT, "Conflict", ex.getMessage(), path, null);
+        }
+        if (ex instanceof OptimisticLockingFailureException) {
+            return failed(index, id, HttpStatus.CONFLICT, "Conflict", WorkationVersionMismatchException.CONCURRENT_CHANGE,
+                    path, null);
+        }
+        if (ex instanceof WorkationValidationException) {
+            return failed(index, id, HttpStatus.BAD_REQUEST, "Validation Error", ex.getMessage(), path, null);
+        }
+        if (ex instanceof IllegalArgumentException) {
+            return failed(index, id, HttpStatus.BAD_REQUEST, "Bad Request", ex.getMessage(), path, null);
+        }
+
+        log.warn("Batch item {} failed: {}", index, ex.getMessage(), ex);
+        return failed(index, id, HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error",
+                "An unexpected error occurred. Please try again later.", path, null);
+    }
+
+    private BatchItemResultDto failed(int index, Long id, HttpStatus status, String error, String message,
+                                      String path, List<String> details) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                status.value(),
+                error,
+                message,
+                path,
+                details
+        );
+        return new BatchItemResultDto(index, id, status.value(), null, errorResponse);
+    }
+}
@@ -0,0 +1,117 @@
+package com.workflex.demonic.controller;
+
+import com.workflex.demonic.service.WorkationChange;
+import com.workflex.demonic.service.WorkationChangeFeed;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Streams the {@link WorkationChangeFeed} to Server-Sent Events subscribers, each on its own
+ * virtual thread that waits on the feed, so a slow client only holds up itself. Events are named
+ * after the change type ({@code created}, {@code updated}, {@code deleted}, {@code reset}) and
+ * carry the change as JSON; their id is the feed position, so a reconnecting EventSource resumes
+ * via {@code Last-Event-ID}. A subscriber that cannot resume, because it fell behind the buffer
+ * or the application restarted, gets a {@code reset} event and continues from the newest change.
+ * Idle streams get a comment every {@code app.changes.heartbeat}.
+ */
+@Slf4j
+@Component
+public class WorkationChangeStream {
+
+    private static final int MAX_EVENTS_PER_POLL = 500;
+
+    private final WorkationChangeFeed feed;
+    private final Duration timeout;
+    private final Duration heartbeat;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("change-stream-", 1).factory());
+
+    public WorkationChangeStream(WorkationChangeFeed feed,
+                                 @Value("${app.changes.timeout:PT30M}") Duration timeout,
+                                 @Value("${app.changes.heartbeat:PT15S}") Duration heartbeat) {
+        this.feed = feed;
+        this.timeout = timeout;
+        this.heartbeat = heartbeat;
+    }
+
+    /**
+     * Subscribe from the change after {@code lastEventId}, or from now on when it is null. The
+     * position is taken before returning, so no change committed after the request is missed.
+     */
+    public SseEmitter open(String lastEventId) {
+        long position = lastEventId == null ? feed.head() : feed.resumeAfter(lastEventId);
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        AtomicBoolean open = new AtomicBoolean(true);
+        emitter.onCompletion(() -> open.set(false));
+        emitter.onTimeout(() -> open.set(false));
+        emitter.onError(error -> open.set(false));
+        executor.execute(() -> stream(emitter, open, position));
+        return emitter;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void stream(SseEmitter emitter, AtomicBoolean open, long position) {
+        try {
+            if (position < 0) {
+                position = reset(emitter);
+            }
+            while (open.get()) {
+                List<WorkationChange> changes = feed.poll(position, MAX_EVENTS_PER_POLL, heartbeat);
+                if (changes.isEmpty()) {
+                    emitter.send(SseEmitter.event().comment("keep-alive"));
+                } else if (changes.get(0).getOffset() != position) {
+                    // Overwritten before this subscriber got to them
+                    position = reset(emitter);
+                } else {
+                    for (WorkationChange change : changes) {
+                        send(emitter, change);
+                    }
+                    position = changes.get(changes.size() - 1).getOffset() + 1;
+                }
+            }
+        } catch (IOException e) {
+            log.debug("Change stream subscriber went away: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        } catch (RuntimeException e) {
+            if (open.get()) {
+                log.warn("Change stream failed: {}", e.getMessage(), e);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    /**
+     * Tell the subscriber to reload and continue from the head of the feed.
+     */
+    private long reset(SseEmitter emitter) throws IOException {
+        long head = feed.head();
+        send(emitter, new WorkationChange(head - 1, WorkationChange.Type.RESET, null, null, Instant.now()));
+        return head;
+    }
+
+    private void send(SseEmitter emitter, WorkationChange change) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(feed.eventId(change.getOffset()))
+                .name(change.getType().name().toLowerCase(Locale.ROOT))
+                .data(change, MediaType.APPLICATION_JSON));
+    }
+}
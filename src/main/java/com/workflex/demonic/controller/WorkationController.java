@@ -1,65 +1,287 @@
 package com.workflex.demonic.controller;
 
+import com.workflex.demonic.dto.BatchResultDto;
+import com.workflex.demonic.dto.CursorPageDto;
+import com.workflex.demonic.dto.PageDto;
+import com.workflex.demonic.dto.WorkationBudgetDto;
 import com.workflex.demonic.dto.WorkationMapper;
 import com.workflex.demonic.dto.WorkationRequestDto;
 import com.workflex.demonic.dto.WorkationResponseDto;
-import com.workflex.demonic.model.Risk;
+import com.workflex.demonic.dto.WorkationStatsDto;
+import com.workflex.demonic.service.RiskRescoreReport;
+import com.workflex.demonic.service.RiskRescoringJob;
+import com.workflex.demonic.service.StatsDimension;
+import com.workflex.demonic.service.WorkationCursor;
+import com.workflex.demonic.service.WorkationFilter;
 import com.workflex.demonic.service.WorkationService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/workations")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = {HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED})
 public class WorkationController {
 
     private final WorkationService service;
     private final WorkationMapper mapper;
+    private final WorkationBatchProcessor batchProcessor;
+    private final WorkationExporter exporter;
+    private final RiskRescoringJob rescoringJob;
+    private final WorkationChangeStream changeStream;
+    private final int streamThreshold;
 
-    public WorkationController(WorkationService service, WorkationMapper mapper) {
+    public WorkationController(WorkationService service,
+                               WorkationMapper mapper,
+                               WorkationBatchProcessor batchProcessor,
+                               WorkationExporter exporter,
+                               RiskRescoringJob rescoringJob,
+                               WorkationChangeStream changeStream,
+                               @Value("${app.page.stream-threshold:500}") int streamThreshold) {
         this.service = service;
         this.mapper = mapper;
+        this.batchProcessor = batchProcessor;
+        this.exporter = exporter;
+        this.rescoringJob = rescoringJob;
+        this.changeStream = changeStream;
+        this.streamThreshold = streamThreshold;
     }
 
+    /**
+     * List and cursor results are tagged with the table's change generation, so a revalidation
+     * ({@code If-None-Match}) is answered with 304 before any query runs.
+     * <p>
+     * Besides JSON, responses are available as CBOR ({@code Accept: application/cbor}) and Smile
+     * ({@code application/x-jackson-smile}). Binary pages use the slim {@link PageDto} envelope;
+     * JSON keeps the full {@link Page} layout existing clients read.
+     * <p>
+     * Pages of {@code app.page.stream-threshold} rows or more are not buffered: rows are written to
+     * the response while they are read ({@link StreamedPage}), without going through the cache.
+     */
     @GetMapping
-    public Page<WorkationResponseDto> getAllWorkations(
+    public ResponseEntity<Object> getAllWorkations(
             @RequestParam(name = "page", defaultValue = "0") int page,
             @RequestParam(name = "size", defaultValue = "10") int size,
             @RequestParam(name = "sortBy", defaultValue = "id") String sortBy,
             @RequestParam(name = "sortDirection", defaultValue = "ASC") String sortDirection,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept,
+            @ParameterObject WorkationFilter filter
+    ) {
+        ETags.Format format = ETags.Format.of(accept);
+        String etag = ETags.weak(service.getListTag(), format);
+        if (ETags.noneMatchHits(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        Pageable pageable = PageRequest.of(page, size, Sort.by(toDirection(sortDirection), sortBy));
+
+        if (size >= streamThreshold) {
+            return validated(etag).body(new StreamedPage(service.streamWorkations(pageable, filter), pageable,
+                    format.isBinary()));
+        }
+        Page<WorkationResponseDto> result = service.getAllWorkations(pageable, filter);
+        return validated(etag).body(format.isBinary() ? PageDto.of(result) : result);
+    }
+
+    /**
+     * Cursor mode, selected by the presence of the {@code cursor} parameter (empty for the first page).
+     * Pages by keyset instead of OFFSET and does not compute a total count.
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageDto<WorkationResponseDto>> getWorkationsByCursor(
+            @RequestParam(name = "cursor") String cursor,
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestParam(name = "sortBy", defaultValue = "id") String sortBy,
+            @RequestParam(name = "sortDirection", defaultValue = "ASC") String sortDirection,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept,
+            @ParameterObject WorkationFilter filter
+    ) {
+        String etag = ETags.weak(service.getListTag(), ETags.Format.of(accept));
+        if (ETags.noneMatchHits(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        Sort.Direction direction = toDirection(sortDirection);
+        Slice<WorkationResponseDto> slice = service.getWorkationsAfter(
+                cursor, sortBy, direction, size, filter);
+
+        String nextCursor = slice.hasNext()
+                ? WorkationCursor.after(slice.getContent().get(slice.getNumberOfElements() - 1), sortBy, direction).encode()
+                : null;
+
+        return validated(etag).body(new CursorPageDto<>(
+                slice.getContent(),
+                size,
+                slice.getNumberOfElements(),
+                slice.hasNext(),
+                nextCursor
+        ));
+    }
+
+    /**
+     * Stream every row matching the filters, ordered by id, as NDJSON ({@code format=ndjson}, default)
+     * or CSV ({@code format=csv}). Rows are written while they are read from the database.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportWorkations(
+            @RequestParam(name = "format", defaultValue = "ndjson") String format,
+            @ParameterObject WorkationFilter filter
+    ) {
+        if (format.equalsIgnoreCase("csv")) {
+            return ResponseEntity.ok()
+                    .contentType(WorkationExporter.TEXT_CSV)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, attachment("workations.csv"))
+                    .body(out -> exporter.writeCsv(filter, out));
+        }
+        if (format.equalsIgnoreCase("ndjson")) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, attachment("workations.ndjson"))
+                    .body(out -> exporter.writeNdjson(filter, out));
+        }
+        throw new IllegalArgumentException("Unsupported export format: " + format);
+    }
+
+    /**
+     * Committed creates, updates and deletes as Server-Sent Events, from now on or, with
+     * {@code Last-Event-ID} (header, or {@code lastEventId} parameter for clients that cannot set
+     * headers), from the change after that event. See {@link WorkationChangeStream}.
+     */
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(name = "lastEventId", required = false) String lastEventId
+    ) {
+        return changeStream.open(lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+    }
+
+    /**
+     * Count, total days and average duration per group, e.g. {@code groupBy=risk,month}.
+     * Dimensions: risk, country, countryDest, month (of the start date). Without groupBy a single
+     * total is returned. Served from the rollup table, not a GROUP BY over all workations.
+     */
+    @GetMapping("/analytics")
+    public List<WorkationStatsDto> getStatistics(
+            @RequestParam(name = "groupBy", required = false) List<String> groupBy
+    ) {
+        List<StatsDimension> dimensions = groupBy == null
+                ? List.of()
+                : groupBy.stream().map(StatsDimension::from).toList();
+        return service.getStatistics(dimensions);
+    }
+
+    /**
+     * Trips overlapping the days {@code from} to {@code to} (inclusive, yyyy-MM-dd), in start date order,
+     * optionally of one employee. Answered from the in-memory interval index.
+     */
+    @GetMapping("/overlaps")
+    public List<WorkationResponseDto> getOverlappingWorkations(
+            @RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
             @RequestParam(name = "employee", required = false) String employee,
-            @RequestParam(name = "country", required = false) String country,
-            @RequestParam(name = "countryDest", required = false) String countryDest,
-            @RequestParam(name = "risk", required = false) Risk risk
+            @RequestParam(name = "limit", defaultValue = "100") int limit
     ) {
-        Sort.Direction direction = sortDirection.equalsIgnoreCase("DESC")
-                ? Sort.Direction.DESC
-                : Sort.Direction.ASC;
-        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+        return service.findOverlapping(employee, from, to, limit);
+    }
 
-        return service.getAllWorkations(pageable, employee, country, countryDest, risk)
-                .map(mapper::toResponseDto);
+    /**
+     * Days abroad booked by {@code employee} in {@code year} (default: the current year) and what
+     * is left of the yearly limit. Answered from running totals, without scanning the trips.
+     */
+    @GetMapping("/budget")
+    public WorkationBudgetDto getBudget(
+            @RequestParam(name = "employee") String employee,
+            @RequestParam(name = "year", required = false) Integer year
+    ) {
+        return service.getBudget(employee, year != null ? year : Year.now().getValue());
     }
 
+    /**
+     * Start re-classifying the risk of all stored workations in the background, e.g. after the
+     * risk rules changed. 409 when a run is already in progress.
+     */
+    @PostMapping("/risk/rescore")
+    public ResponseEntity<RiskRescoreReport> startRiskRescore() {
+        boolean started = rescoringJob.start();
+        return ResponseEntity.status(started ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT)
+                .body(rescoringJob.getStatus());
+    }
+
+    /**
+     * Progress of the running re-scoring, or the outcome of the last one (204 before the first run).
+     */
+    @GetMapping("/risk/rescore")
+    public ResponseEntity<RiskRescoreReport> getRiskRescoreStatus() {
+        RiskRescoreReport status = rescoringJob.getStatus();
+        return status != null ? ResponseEntity.ok(status) : ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Tagged with the row version. A revalidation ({@code If-None-Match}) only compares versions,
+     * the row is neither loaded nor serialized when it is unchanged.
+     */
     @GetMapping("/{id}")
-    public WorkationResponseDto getWorkationById(@PathVariable Long id) {
-        return mapper.toResponseDto(service.getWorkationById(id));
+    public ResponseEntity<WorkationResponseDto> getWorkationById(
+            @PathVariable Long id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
+        ETags.Format format = ETags.Format.of(accept);
+        if (ifNoneMatch != null) {
+            String etag = ETags.of(service.getVersionTag(service.getVersion(id)), format);
+            if (ETags.noneMatchHits(ifNoneMatch, etag)) {
+                return notModified(etag);
+            }
+        }
+        return tagged(ResponseEntity.ok(), service.getWorkationById(id), format);
     }
 
     @PostMapping
-    @ResponseStatus(HttpStatus.CREATED)
-    public WorkationResponseDto createWorkation(@Valid @RequestBody WorkationRequestDto requestDto) {
-        return mapper.toResponseDto(service.createWorkation(mapper.toEntity(requestDto)));
+    public ResponseEntity<WorkationResponseDto> createWorkation(
+            @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept,
+            @Valid @RequestBody WorkationRequestDto requestDto
+    ) {
+        return tagged(ResponseEntity.status(HttpStatus.CREATED),
+                mapper.toResponseDto(service.createWorkation(mapper.toEntity(requestDto))), ETags.Format.of(accept));
     }
 
+    /**
+     * With {@code If-Match} the update only applies to the given version (412 otherwise). Without
+     * it, an update racing a concurrent change of the same trip fails with 409 instead of
+     * overwriting it.
+     */
     @PutMapping("/{id}")
-    public WorkationResponseDto updateWorkation(@PathVariable Long id, @Valid @RequestBody WorkationRequestDto requestDto) {
-        return mapper.toResponseDto(service.updateWorkation(id, mapper.toEntity(requestDto)));
+    public ResponseEntity<WorkationResponseDto> updateWorkation(
+            @PathVariable Long id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept,
+            @Valid @RequestBody WorkationRequestDto requestDto
+    ) {
+        return tagged(ResponseEntity.ok(), mapper.toResponseDto(
+                service.updateWorkation(id, mapper.toEntity(requestDto), ETags.requiredTag(ifMatch))),
+                ETags.Format.of(accept));
     }
 
     @DeleteMapping("/{id}")
@@ -67,4 +289,53 @@ public class WorkationController {
     public void deleteWorkation(@PathVariable Long id) {
         service.deleteWorkation(id);
     }
+
+    @PostMapping(value = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public BatchResultDto createWorkations(InputStream body, HttpServletRequest request) throws IOException {
+        return batchProcessor.create(body, request.getRequestURI());
+    }
+
+    @PutMapping(value = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public BatchResultDto updateWorkations(InputStream body, HttpServletRequest request) throws IOException {
+        return batchProcessor.update(body, request.getRequestURI());
+    }
+
+    @DeleteMapping(value = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public BatchResultDto deleteWorkations(InputStream body, HttpServletRequest request) throws IOException {
+        return batchProcessor.delete(body, request.getRequestURI());
+    }
+
+    /**
+     * Clients may keep the response but must revalidate it before reuse. The tag depends on the
+     * negotiated format, hence {@code Vary: Accept}.
+     */
+    private static ResponseEntity.BodyBuilder validated(String etag) {
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).varyBy(HttpHeaders.ACCEPT);
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT).build();
+    }
+
+    private ResponseEntity<WorkationResponseDto> tagged(ResponseEntity.BodyBuilder builder,
+                                                        WorkationResponseDto workation, ETags.Format format) {
+        if (workation.getVersion() != null) {
+            builder.eTag(ETags.of(service.getVersionTag(workation.getVersion()), format));
+        }
+        if (workation.getLastModified() != null) {
+            builder.lastModified(workation.getLastModified().toInstant());
+        }
+        return builder.cacheControl(CacheControl.noCache()).varyBy(HttpHeaders.ACCEPT).body(workation);
+    }
+
+    private String attachment(String filename) {
+        return ContentDisposition.attachment().filename(filename).build().toString();
+    }
+
+    private Sort.Direction toDirection(String sortDirection) {
+        return sortDirection.equalsIgnoreCase("DESC")
+                ? Sort.Direction.DESC
+                : Sort.Direction.ASC;
+    }
 }
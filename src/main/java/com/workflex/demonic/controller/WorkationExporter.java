@@ -0,0 +1,123 @@
+package com.workflex.demonic.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.workflex.demonic.dto.WorkationResponseDto;
+import com.workflex.demonic.service.WorkationFilter;
+import com.workflex.demonic.service.WorkationService;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * Writes the export stream row by row as it is read from the database: NDJSON (one
+ * {@link WorkationResponseDto} per line) or CSV in the same layout as the import file.
+ * Output is buffered and never flushed per row.
+ */
+@Component
+public class WorkationExporter {
+
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private static final String CSV_HEADER = "id,employee,country,country_dest,start_date,end_date,days,risk";
+
+    private final WorkationService service;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rowWriter;
+
+    public WorkationExporter(WorkationService service, ObjectMapper objectMapper) {
+        this.service = service;
+        this.objectMapper = objectMapper;
+        this.rowWriter = objectMapper.writerFor(WorkationResponseDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator((String) null);
+    }
+
+    public void writeNdjson(WorkationFilter filter, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            export(filter, row -> {
+                rowWriter.writeValue(generator, row);
+                generator.writeRaw('\n');
+            });
+        }
+    }
+
+    public void writeCsv(WorkationFilter filter, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        export(filter, row -> {
+            writer.write(String.valueOf(row.getId()));
+            writer.write(',');
+            writer.write(csvField(row.getEmployee()));
+            writer.write(',');
+            writer.write(csvField(row.getCountry()));
+            writer.write(',');
+            writer.write(csvField(row.getCountryDest()));
+            writer.write(',');
+            writer.write(csvDate(row.getStartDate()));
+            writer.write(',');
+            writer.write(csvDate(row.getEndDate()));
+            writer.write(',');
+            writer.write(String.valueOf(row.getDays()));
+            writer.write(',');
+            writer.write(row.getRisk() != null ? row.getRisk().name() : "");
+            writer.write('\n');
+        });
+        writer.flush();
+    }
+
+    private void export(WorkationFilter filter, RowWriter sink) throws IOException {
+        try {
+            service.exportWorkations(filter, row -> {
+                try {
+                    sink.write(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Quote a field when it contains a separator, quote or line break, doubling embedded quotes.
+     */
+    static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String csvDate(Date date) {
+        if (date == null) {
+            return "";
+        }
+        // java.sql.Date does not support toInstant(), so go through the epoch millis
+        return LocalDate.ofInstant(Instant.ofEpochMilli(date.getTime()), ZoneId.systemDefault()).toString();
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(WorkationResponseDto row) throws IOException;
+    }
+}
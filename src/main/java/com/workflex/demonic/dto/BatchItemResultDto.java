@@ -0,0 +1,16 @@
+package com.workflex.demonic.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchItemResultDto {
+    private int index;
+    private Long id;
+    private int status;
+    private WorkationResponseDto workation;
+    private ErrorResponse error;
+}
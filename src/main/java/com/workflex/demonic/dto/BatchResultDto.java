@@ -0,0 +1,17 @@
+package com.workflex.demonic.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResultDto {
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<BatchItemResultDto> results;
+}
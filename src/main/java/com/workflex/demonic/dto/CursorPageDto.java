@@ -0,0 +1,18 @@
+package com.workflex.demonic.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+    private List<T> content;
+    private int size;
+    private int numberOfElements;
+    private boolean hasNext;
+    private String nextCursor;
+}
@@ -0,0 +1,15 @@
+package com.workflex.demonic.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class WorkationBatchUpdateDto extends WorkationRequestDto {
+
+    @NotNull(message = "Workation id is required")
+    private Long id;
+}
@@ -0,0 +1,19 @@
+package com.workflex.demonic.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Days abroad one employee has booked in one calendar year, against the yearly limit.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkationBudgetDto {
+    private String employee;
+    private int year;
+    private long usedDays;
+    private int maxDays;
+    private long remainingDays;
+}
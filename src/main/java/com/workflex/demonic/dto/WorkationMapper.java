@@ -6,6 +6,11 @@ import org.mapstruct.*;
 @Mapper(componentModel = "spring")
 public interface WorkationMapper {
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "last_modified", ignore = true)
+    @Mapping(target = "employee_search", ignore = true)
+    @Mapping(target = "country_search", ignore = true)
+    @Mapping(target = "country_dest_search", ignore = true)
     @Mapping(source = "countryDest", target = "country_dest")
     @Mapping(source = "startDate", target = "start_date")
     @Mapping(source = "endDate", target = "end_date")
@@ -14,5 +19,6 @@ public interface WorkationMapper {
     @Mapping(source = "country_dest", target = "countryDest")
     @Mapping(source = "start_date", target = "startDate")
     @Mapping(source = "end_date", target = "endDate")
+    @Mapping(source = "last_modified", target = "lastModified")
     WorkationResponseDto toResponseDto(Workation workation);
 }
@@ -36,6 +36,6 @@ public class WorkationRequestDto {
     @Max(value = 365, message = "Trip duration cannot exceed 365 days")
     private Integer days;
 
-    @NotNull(message = "Risk level is required")
+    // Optional and ignored on writes: the server derives risk (RiskEngine)
     private Risk risk;
 }
\ No newline at end of file
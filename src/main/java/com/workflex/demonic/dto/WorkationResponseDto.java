@@ -20,4 +20,6 @@ public class WorkationResponseDto {
     private Date endDate;
     private int days;
     private Risk risk;
+    private Long version;
+    private Date lastModified;
 }
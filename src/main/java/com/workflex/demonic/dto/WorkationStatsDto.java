@@ -0,0 +1,24 @@
+package com.workflex.demonic.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.workflex.demonic.model.Risk;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Aggregates for one group; dimensions that were not grouped by are left out.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WorkationStatsDto {
+    private Risk risk;
+    private String country;
+    private String countryDest;
+    private String month;
+    private long count;
+    private long totalDays;
+    private double averageDays;
+}
@@ -0,0 +1,21 @@
+package com.workflex.demonic.exception;
+
+import lombok.Getter;
+
+/**
+ * A workation would take an employee over the yearly limit of days abroad.
+ */
+@Getter
+public class WorkationBudgetExceededException extends RuntimeException {
+
+    private final int year;
+    private final long days;
+    private final int limit;
+
+    public WorkationBudgetExceededException(String employee, int year, long days, int limit) {
+        super("Trip of " + employee + " would bring " + year + " to " + days + " days abroad, the limit is " + limit);
+        this.year = year;
+        this.days = days;
+        this.limit = limit;
+    }
+}
@@ -0,0 +1,19 @@
+package com.workflex.demonic.exception;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * A workation overlaps other workations of the same employee.
+ */
+@Getter
+public class WorkationConflictException extends RuntimeException {
+
+    private final List<Long> conflictingIds;
+
+    public WorkationConflictException(String employee, List<Long> conflictingIds) {
+        super("Trip of " + employee + " overlaps existing trips with ids: " + conflictingIds);
+        this.conflictingIds = List.copyOf(conflictingIds);
+    }
+}
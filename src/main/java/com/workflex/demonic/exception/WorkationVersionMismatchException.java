@@ -0,0 +1,19 @@
+package com.workflex.demonic.exception;
+
+import lombok.Getter;
+
+/**
+ * The If-Match precondition of a change names another version than the stored one.
+ */
+@Getter
+public class WorkationVersionMismatchException extends RuntimeException {
+
+    public static final String CONCURRENT_CHANGE = "The trip was changed concurrently, reload it and retry";
+
+    private final String currentTag;
+
+    public WorkationVersionMismatchException(Long id, long currentVersion, String currentTag) {
+        super("Trip " + id + " is at version " + currentVersion + ", not the one of the If-Match tag");
+        this.currentTag = currentTag;
+    }
+}
@@ -6,16 +6,26 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.Date;
+import java.util.Locale;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "workation")
+@Table(name = "workation", indexes = {
+        @Index(name = "idx_workation_employee_search", columnList = "employee_search"),
+        @Index(name = "idx_workation_country_search", columnList = "country_search"),
+        @Index(name = "idx_workation_country_dest_search", columnList = "country_dest_search"),
+        @Index(name = "idx_workation_risk", columnList = "risk"),
+        @Index(name = "idx_workation_start_end", columnList = "start_date, end_date"),
+        @Index(name = "idx_workation_end_start", columnList = "end_date, start_date"),
+        @Index(name = "idx_workation_days", columnList = "days")
+})
 public class Workation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workation_seq")
+    @SequenceGenerator(name = "workation_seq", sequenceName = "workation_seq", allocationSize = 50)
     private Long id;
 
     private String employee;
@@ -27,4 +37,27 @@ public class Workation {
     @Enumerated(EnumType.STRING)
     @Column(name = "risk")
     private Risk risk;
-}
\ No newline at end of file
+
+    // Incremented on every change: optimistic locking, and the ETag of the row's representation
+    @Version
+    private Long version;
+    private Date last_modified;
+
+    // Lower-cased copies of the searchable columns, so filters can use plain indexed comparisons
+    private String employee_search;
+    private String country_search;
+    private String country_dest_search;
+
+    @PrePersist
+    @PreUpdate
+    void beforeWrite() {
+        last_modified = new Date();
+        employee_search = normalize(employee);
+        country_search = normalize(country);
+        country_dest_search = normalize(country_dest);
+    }
+
+    public static String normalize(String value) {
+        return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,27 @@
+package com.workflex.demonic.model;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row of the analytics rollup: number of workations and their total days per risk, country,
+ * destination and start month. Written with SQL by {@code WorkationRollup}; the table is created
+ * by the migrations.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "workation_rollup")
+public class WorkationRollupEntry {
+
+    @EmbeddedId
+    private WorkationRollupKey key;
+
+    private long trip_count;
+    private long total_days;
+}
@@ -0,0 +1,22 @@
+package com.workflex.demonic.model;
+
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Embeddable
+public class WorkationRollupKey implements Serializable {
+
+    // Risk name; empty when the workation has none
+    private String risk;
+    private String country;
+    private String country_dest;
+    // yyyy-MM of the start date
+    private String trip_month;
+}
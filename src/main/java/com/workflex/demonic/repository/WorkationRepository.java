@@ -1,11 +1,45 @@
 package com.workflex.demonic.repository;
 
 
+import com.workflex.demonic.dto.WorkationResponseDto;
 import com.workflex.demonic.model.Workation;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface WorkationRepository extends JpaRepository<Workation, Long>, JpaSpecificationExecutor<Workation> {
-}
\ No newline at end of file
+public interface WorkationRepository extends JpaRepository<Workation, Long>, JpaSpecificationExecutor<Workation>,
+        WorkationRepositoryCustom {
+
+    @Query("select w.id from Workation w where w.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select new com.workflex.demonic.dto.WorkationResponseDto(" +
+            "w.id, w.employee, w.country, w.country_dest, w.start_date, w.end_date, w.days, w.risk, w.version, " +
+            "w.last_modified) " +
+            "from Workation w where w.id = :id")
+    Optional<WorkationResponseDto> findResponseById(@Param("id") Long id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select new com.workflex.demonic.dto.WorkationResponseDto(" +
+            "w.id, w.employee, w.country, w.country_dest, w.start_date, w.end_date, w.days, w.risk, w.version, " +
+            "w.last_modified) " +
+            "from Workation w where w.id in :ids")
+    List<WorkationResponseDto> findResponsesByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Version of one row, read without loading the entity; answers conditional requests.
+     */
+    @Query("select w.version from Workation w where w.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+}
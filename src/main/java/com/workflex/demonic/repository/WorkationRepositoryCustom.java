@@ -0,0 +1,41 @@
+package com.workflex.demonic.repository;
+
+import com.workflex.demonic.dto.WorkationResponseDto;
+import com.workflex.demonic.model.Workation;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+/**
+ * Read-only list queries that select {@link WorkationResponseDto} rows directly, so no entities are
+ * loaded into the persistence context.
+ */
+public interface WorkationRepositoryCustom {
+
+    /**
+     * Page of projected rows; the COUNT query is skipped when the page itself shows the total.
+     */
+    Page<WorkationResponseDto> findResponsePage(Specification<Workation> spec, Pageable pageable);
+
+    /**
+     * Fetch at most {@code limit} projected rows matching the specification in the given order,
+     * without the COUNT query a {@link Page} needs.
+     */
+    Slice<WorkationResponseDto> findResponseSlice(Specification<Workation> spec, Sort sort, int limit);
+
+    /**
+     * Stream every matching projected row from a forward-only cursor, {@code fetchSize} rows per
+     * round trip. Must be consumed and closed inside a transaction.
+     */
+    Stream<WorkationResponseDto> streamResponses(Specification<Workation> spec, Sort sort, int fetchSize);
+
+    /**
+     * Stream the projected rows of one page, in the page's sort order, like
+     * {@link #streamResponses(Specification, Sort, int)}. No COUNT query is run.
+     */
+    Stream<WorkationResponseDto> streamResponses(Specification<Workation> spec, Pageable pageable, int fetchSize);
+}
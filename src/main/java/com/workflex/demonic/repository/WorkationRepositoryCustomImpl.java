@@ -0,0 +1,136 @@
+package com.workflex.demonic.repository;
+
+import com.workflex.demonic.dto.WorkationResponseDto;
+import com.workflex.demonic.model.Workation;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Each query is timed as {@code workation.query}, tagged {@code query=page.select}, {@code page.count}
+ * or {@code slice.select}; the time includes constructing the projected DTOs.
+ */
+public class WorkationRepositoryCustomImpl implements WorkationRepositoryCustom {
+
+    public static final String QUERY_TIMER = "workation.query";
+
+    private final EntityManager entityManager;
+    private final MeterRegistry meterRegistry;
+
+    public WorkationRepositoryCustomImpl(EntityManager entityManager, MeterRegistry meterRegistry) {
+        this.entityManager = entityManager;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Page<WorkationResponseDto> findResponsePage(Specification<Workation> spec, Pageable pageable) {
+        TypedQuery<WorkationResponseDto> query = readOnly(entityManager.createQuery(responseQuery(spec, pageable.getSort())));
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+
+        List<WorkationResponseDto> rows = timed("page.select", query::getResultList);
+        return PageableExecutionUtils.getPage(rows, pageable, () -> timed("page.count", () -> count(spec)));
+    }
+
+    @Override
+    public Slice<WorkationResponseDto> findResponseSlice(Specification<Workation> spec, Sort sort, int limit) {
+        // Read one extra row to know whether another slice follows
+        TypedQuery<WorkationResponseDto> query = readOnly(entityManager.createQuery(responseQuery(spec, sort)))
+                .setMaxResults(limit + 1);
+        List<WorkationResponseDto> rows = timed("slice.select", query::getResultList);
+
+        boolean hasNext = rows.size() > limit;
+        List<WorkationResponseDto> content = hasNext ? rows.subList(0, limit) : rows;
+        return new SliceImpl<>(content, PageRequest.of(0, limit, sort), hasNext);
+    }
+
+    @Override
+    public Stream<WorkationResponseDto> streamResponses(Specification<Workation> spec, Sort sort, int fetchSize) {
+        // Hibernate backs getResultStream() with forward-only ScrollableResults
+        return readOnly(entityManager.createQuery(responseQuery(spec, sort)))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    @Override
+    public Stream<WorkationResponseDto> streamResponses(Specification<Workation> spec, Pageable pageable, int fetchSize) {
+        TypedQuery<WorkationResponseDto> query = readOnly(entityManager.createQuery(responseQuery(spec, pageable.getSort())))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return query.getResultStream();
+    }
+
+    private CriteriaQuery<WorkationResponseDto> responseQuery(Specification<Workation> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<WorkationResponseDto> query = cb.createQuery(WorkationResponseDto.class);
+        Root<Workation> root = query.from(Workation.class);
+
+        query.select(cb.construct(WorkationResponseDto.class,
+                root.get("id"),
+                root.get("employee"),
+                root.get("country"),
+                root.get("country_dest"),
+                root.get("start_date"),
+                root.get("end_date"),
+                root.get("days"),
+                root.get("risk"),
+                root.get("version"),
+                root.get("last_modified")));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        return query;
+    }
+
+    private long count(Specification<Workation> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Workation> root = query.from(Workation.class);
+
+        query.select(cb.count(root));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return readOnly(entityManager.createQuery(query)).getSingleResult();
+    }
+
+    private <T> T timed(String query, Supplier<T> execution) {
+        return meterRegistry.timer(QUERY_TIMER, "query", query).record(execution);
+    }
+
+    /**
+     * Projections are never modified, so keep nothing for dirty checking. The flush mode is left
+     * to the transaction: MANUAL in the service's read-only ones, while a read joining a write
+     * transaction still sees its pending changes.
+     */
+    private static <T> TypedQuery<T> readOnly(TypedQuery<T> query) {
+        return query.setHint(HibernateHints.HINT_READ_ONLY, true);
+    }
+}
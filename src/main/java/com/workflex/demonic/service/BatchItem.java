@@ -0,0 +1,30 @@
+package com.workflex.demonic.service;
+
+import lombok.Getter;
+
+/**
+ * Outcome of a single item in a batch operation: either a value or the error that rejected it.
+ */
+@Getter
+public class BatchItem<T> {
+
+    private final T value;
+    private final RuntimeException error;
+
+    private BatchItem(T value, RuntimeException error) {
+        this.value = value;
+        this.error = error;
+    }
+
+    public static <T> BatchItem<T> success(T value) {
+        return new BatchItem<>(value, null);
+    }
+
+    public static <T> BatchItem<T> failure(RuntimeException error) {
+        return new BatchItem<>(null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -0,0 +1,247 @@
+package com.workflex.demonic.service;
+
+import com.workflex.demonic.dto.WorkationMapper;
+import com.workflex.demonic.dto.WorkationRequestDto;
+import com.workflex.demonic.model.Workation;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streams workation rows from a CSV resource into the database.
+ * Rows are parsed and validated one at a time and persisted in chunks, one transaction
+ * and one flush per chunk, so memory use does not depend on the file size. Hibernate turns
+ * each flush into JDBC batch inserts (hibernate.jdbc.batch_size) since ids come from a
+ * pooled sequence.
+ */
+@Slf4j
+@Component
+public class CsvDataLoader {
+
+    // id to days; the trailing risk column of the file layout is optional and ignored (RiskEngine derives it)
+    private static final int COLUMN_COUNT = 7;
+    private static final int MAX_LOGGED_REJECTIONS = 20;
+
+    private final EntityManager entityManager;
+    private final WorkationMapper mapper;
+    private final WorkationCache cache;
+    private final WorkationRollup rollup;
+    private final RiskEngine riskEngine;
+    private final WorkationChangeFeed changes;
+    private final WorkationOutbox outbox;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final int batchSize;
+
+    private volatile CsvImportReport lastReport;
+
+    public CsvDataLoader(EntityManager entityManager,
+                         WorkationMapper mapper,
+                         WorkationCache cache,
+                         WorkationRollup rollup,
+                         RiskEngine riskEngine,
+                         WorkationChangeFeed changes,
+                         WorkationOutbox outbox,
+                         PlatformTransactionManager transactionManager,
+                         Validator validator,
+                         @Value("${app.csv.import.batch-size:1000}") int batchSize) {
+        this.entityManager = entityManager;
+        this.mapper = mapper;
+        this.cache = cache;
+        this.rollup = rollup;
+        this.riskEngine = riskEngine;
+        this.changes = changes;
+        this.outbox = outbox;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Import the resource on the calling thread.
+     */
+    public CsvImportReport load(Resource resource) {
+        long started = System.nanoTime();
+        long linesRead = 0;
+        long imported = 0;
+        long rejected = 0;
+        Map<String, Long> reasons = new LinkedHashMap<>();
+        List<WorkationRequestDto> batch = new ArrayList<>(batchSize);
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+
+            // Skip header
+            String line = reader.readLine();
+            int lineNumber = 1;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                linesRead++;
+
+                String reason;
+                try {
+                    WorkationRequestDto row = parseLine(line);
+                    reason = validate(row);
+                    if (reason == null) {
+                        batch.add(row);
+                        if (batch.size() >= batchSize) {
+                            imported += writeBatch(batch);
+                        }
+                        continue;
+                    }
+                } catch (CsvRowException e) {
+                    reason = e.getMessage();
+                }
+
+                rejected++;
+                reasons.merge(reason, 1L, Long::sum);
+                if (rejected <= MAX_LOGGED_REJECTIONS) {
+                    log.warn("Line {}: {} - skipping", lineNumber, reason);
+                } else {
+                    log.debug("Line {}: {} - skipping", lineNumber, reason);
+                }
+            }
+
+            imported += writeBatch(batch);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read CSV resource " + resource.getDescription(), e);
+        }
+
+        if (imported > 0) {
+            // One event for the whole file rather than one per row
+            changes.reset();
+        }
+        CsvImportReport report = new CsvImportReport(resource.getDescription(), linesRead, imported, rejected,
+                reasons, Duration.ofNanos(System.nanoTime() - started));
+        lastReport = report;
+        log.info("CSV import finished: {}", report);
+        return report;
+    }
+
+    public CsvImportReport getLastReport() {
+        return lastReport;
+    }
+
+    private int writeBatch(List<WorkationRequestDto> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Workation> workations = new ArrayList<>(batch.size());
+            for (WorkationRequestDto row : batch) {
+                Workation workation = riskEngine.apply(mapper.toEntity(row));
+                entityManager.persist(workation);
+                workations.add(workation);
+            }
+            rollup.added(workations);
+            entityManager.flush();
+            entityManager.clear();
+            // Ids and versions are assigned by now, so the detached rows still make complete payloads
+            workations.forEach(outbox::created);
+        });
+        // Imported rows bypass WorkationService, so drop list results cached while the import runs
+        cache.evictQueries();
+        int written = batch.size();
+        batch.clear();
+        return written;
+    }
+
+    private String validate(WorkationRequestDto row) {
+        Set<ConstraintViolation<WorkationRequestDto>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            return violations.iterator().next().getMessage();
+        }
+        if (row.getEndDate().before(row.getStartDate())) {
+            return "End date is before start date";
+        }
+        return null;
+    }
+
+    static WorkationRequestDto parseLine(String line) {
+        List<String> fields = splitLine(line);
+        if (fields.size() < COLUMN_COUNT) {
+            throw new CsvRowException("Invalid format - expected " + COLUMN_COUNT + " columns but found " + fields.size());
+        }
+
+        WorkationRequestDto row = new WorkationRequestDto();
+        row.setEmployee(fields.get(1));
+        row.setCountry(fields.get(2));
+        row.setCountryDest(fields.get(3));
+        row.setStartDate(parseDate(fields.get(4)));
+        row.setEndDate(parseDate(fields.get(5)));
+        try {
+            row.setDays(Integer.parseInt(fields.get(6)));
+        } catch (NumberFormatException e) {
+            throw new CsvRowException("Invalid trip duration");
+        }
+        return row;
+    }
+
+    private static Date parseDate(String value) {
+        try {
+            return Date.from(LocalDate.parse(value).atStartOfDay(ZoneId.systemDefault()).toInstant());
+        } catch (DateTimeParseException e) {
+            throw new CsvRowException("Invalid date format, expected yyyy-MM-dd");
+        }
+    }
+
+    /**
+     * Split a CSV line on commas, honouring double-quoted fields. Fields are trimmed.
+     */
+    static List<String> splitLine(String line) {
+        List<String> fields = new ArrayList<>(COLUMN_COUNT);
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == ',' && !quoted) {
+                fields.add(current.toString().trim());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString().trim());
+        return fields;
+    }
+
+    static class CsvRowException extends RuntimeException {
+        CsvRowException(String message) {
+            // Rejections are expected data errors, so skip the stack trace
+            super(message, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.workflex.demonic.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class CsvImportReport {
+
+    private final String source;
+    private final long linesRead;
+    private final long imported;
+    private final long rejected;
+    private final Map<String, Long> rejectionReasons;
+    private final Duration elapsed;
+
+    public double getRowsPerSecond() {
+        long millis = elapsed.toMillis();
+        return millis == 0 ? imported : imported * 1000.0 / millis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("source=%s, linesRead=%d, imported=%d, rejected=%d, elapsed=%dms, rowsPerSecond=%.1f, reasons=%s",
+                source, linesRead, imported, rejected, elapsed.toMillis(), getRowsPerSecond(), rejectionReasons);
+    }
+}
@@ -1,84 +1,116 @@
 package com.workflex.demonic.service;
 
-import com.workflex.demonic.model.Risk;
-import com.workflex.demonic.model.Workation;
-import com.workflex.demonic.repository.WorkationRepository;
-import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.text.SimpleDateFormat;
-
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Prepares the data once the application is ready, on a background thread so it never delays
+ * startup: imports the CSV into an empty store, rebuilds the analytics rollup when it is
+ * missing and loads the overlap index and the day budget. A populated store (e.g. the file-backed database of the {@code persistent} profile) is
+ * detected with a single-row probe. The index and the budget are loaded even when the import
+ * fails, since every later write is checked against them. {@link DataLoadHealthIndicator} keeps
+ * the readiness probe down until both steps have succeeded. The schema itself is created by the
+ * Flyway migrations.
+ */
 @Slf4j
 @Component
 public class DataInitializer {
 
-    private final WorkationRepository workationRepository;
+    public enum State {
+        PENDING, LOADING, READY, FAILED
+    }
+
+    private final CsvDataLoader csvDataLoader;
+    private final JdbcTemplate jdbcTemplate;
+    private final WorkationRollup rollup;
+    private final WorkationOverlapIndex overlapIndex;
+    private final WorkationDayBudget dayBudget;
+    private final boolean importEnabled;
+    private final Resource csvResource;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("data-init").daemon(true).factory());
+
+    private volatile State state = State.PENDING;
+
+    public DataInitializer(CsvDataLoader csvDataLoader,
+                           JdbcTemplate jdbcTemplate,
+                           WorkationRollup rollup,
+                           WorkationOverlapIndex overlapIndex,
+                           WorkationDayBudget dayBudget,
+                           @Value("${app.csv.import.enabled:true}") boolean importEnabled,
+                           @Value("${app.csv.import.location:classpath:workations.csv}") Resource csvResource) {
+        this.csvDataLoader = csvDataLoader;
+        this.jdbcTemplate = jdbcTemplate;
+        this.rollup = rollup;
+        this.overlapIndex = overlapIndex;
+        this.dayBudget = dayBudget;
+        this.importEnabled = importEnabled;
+        this.csvResource = csvResource;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        state = State.LOADING;
+        executor.execute(() -> {
+            boolean initialized = run("initialize data", this::initialize);
+            boolean indexed = run("load the overlap index and day budget", () -> {
+                overlapIndex.rebuild();
+                dayBudget.rebuild();
+            });
+            state = initialized && indexed ? State.READY : State.FAILED;
+        });
+    }
+
+    public State getState() {
+        return state;
+    }
 
-    public DataInitializer(WorkationRepository workationRepository) {
-        this.workationRepository = workationRepository;
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
     }
 
-    @PostConstruct
-    public void init() {
-        if (workationRepository.count() > 0) {
-            log.info("Database already contains {} workations. Skipping CSV import.", workationRepository.count());
+    private void initialize() {
+        boolean populated = hasWorkations();
+        if (populated && rollup.isEmpty()) {
+            // Rows written while the rollup was not maintained
+            rollup.rebuild();
+        }
+
+        if (!importEnabled) {
+            log.info("CSV import is disabled. Skipping CSV import.");
             return;
         }
 
-        log.info("Initializing database with CSV data...");
-        loadCsvData();
+        if (populated) {
+            log.info("Database already contains workations. Skipping CSV import.");
+            return;
+        }
+
+        log.info("Initializing database with CSV data from {}...", csvResource.getDescription());
+        csvDataLoader.load(csvResource);
     }
 
-    private void loadCsvData() {
+    private static boolean run(String step, Runnable action) {
         try {
-            ClassPathResource resource = new ClassPathResource("workations.csv");
-            BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream()));
-
-            SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
-            String line;
-            int lineNumber = 0;
-            int importedCount = 0;
-
-            while ((line = reader.readLine()) != null) {
-                lineNumber++;
-
-                // Skip header
-                if (lineNumber == 1) {
-                    continue;
-                }
-
-                String[] fields = line.split(",");
-
-                if (fields.length < 8) {
-                    log.warn("Line {}: Invalid format - skipping", lineNumber);
-                    continue;
-                }
-
-                try {
-                    Workation workation = new Workation();
-                    workation.setEmployee(fields[1].trim());
-                    workation.setCountry(fields[2].trim());
-                    workation.setCountry_dest(fields[3].trim());
-                    workation.setStart_date(dateFormat.parse(fields[4].trim()));
-                    workation.setEnd_date(dateFormat.parse(fields[5].trim()));
-                    workation.setDays(Integer.parseInt(fields[6].trim()));
-                    workation.setRisk(Risk.valueOf(fields[7].trim()));
-
-                    workationRepository.save(workation);
-                    importedCount++;
-                } catch (Exception e) {
-                    log.error("Line {}: Failed to parse - {}", lineNumber, e.getMessage());
-                }
-            }
-
-            reader.close();
-            log.info("Successfully imported {} workations from CSV", importedCount);
-        } catch (Exception e) {
-            log.error("Failed to load CSV data: {}", e.getMessage(), e);
+            action.run();
+            return true;
+        } catch (RuntimeException e) {
+            log.error("Failed to {}: {}", step, e.getMessage(), e);
+            return false;
         }
     }
-}
\ No newline at end of file
+
+    private boolean hasWorkations() {
+        return !jdbcTemplate.queryForList("SELECT 1 FROM workation FETCH FIRST 1 ROWS ONLY", Integer.class).isEmpty();
+    }
+}
@@ -0,0 +1,40 @@
+package com.workflex.demonic.service;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code dataLoad} health: OUT_OF_SERVICE until {@link DataInitializer} has finished, so the
+ * readiness group (/actuator/health/readiness) only reports UP once the data is loaded.
+ * A failed load reports DOWN: the instance may be missing data, and its overlap and budget checks
+ * may miss trips, so it should not take traffic.
+ */
+@Component
+public class DataLoadHealthIndicator implements HealthIndicator {
+
+    private final DataInitializer dataInitializer;
+    private final CsvDataLoader csvDataLoader;
+
+    public DataLoadHealthIndicator(DataInitializer dataInitializer, CsvDataLoader csvDataLoader) {
+        this.dataInitializer = dataInitializer;
+        this.csvDataLoader = csvDataLoader;
+    }
+
+    @Override
+    public Health health() {
+        DataInitializer.State state = dataInitializer.getState();
+        Health.Builder health = switch (state) {
+            case READY -> Health.up();
+            case FAILED -> Health.down();
+            case PENDING, LOADING -> Health.outOfService();
+        };
+        health.withDetail("state", state);
+        CsvImportReport report = csvDataLoader.getLastReport();
+        if (report != null) {
+            health.withDetail("imported", report.getImported())
+                    .withDetail("rejected", report.getRejected());
+        }
+        return health.build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.workflex.demonic.service;
+
+import com.workflex.demonic.model.Risk;
+import com.workflex.demonic.model.Workation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Trips to a destination listed in {@code app.risk.high-risk-destinations} are HIGH_RISK whatever
+ * their length. Names are compared like the search filters, ignoring case and surrounding spaces.
+ */
+@Component
+public class DestinationRiskRule implements RiskRule {
+
+    private final Set<String> highRiskDestinations;
+
+    public DestinationRiskRule(@Value("${app.risk.high-risk-destinations:}") List<String> highRiskDestinations) {
+        this.highRiskDestinations = highRiskDestinations.stream()
+                .map(Workation::normalize)
+                .filter(name -> name != null && !name.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public Risk evaluate(Workation workation) {
+        String destination = Workation.normalize(workation.getCountry_dest());
+        return destination != null && highRiskDestinations.contains(destination) ? Risk.HIGH_RISK : Risk.NO_RISK;
+    }
+}
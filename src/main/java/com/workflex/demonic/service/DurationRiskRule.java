@@ -0,0 +1,45 @@
+package com.workflex.demonic.service;
+
+import com.workflex.demonic.model.Risk;
+import com.workflex.demonic.model.Workation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Risk by trip length: up to {@code app.risk.low-risk-after-days} days is NO_RISK, up to
+ * {@code app.risk.high-risk-after-days} LOW_RISK, anything longer HIGH_RISK. The length is the
+ * larger of the stated days and the days between the dates, so a short {@code days} value cannot
+ * hide a long trip.
+ */
+@Component
+public class DurationRiskRule implements RiskRule {
+
+    private final int lowRiskAfterDays;
+    private final int highRiskAfterDays;
+
+    public DurationRiskRule(@Value("${app.risk.low-risk-after-days:50}") int lowRiskAfterDays,
+                            @Value("${app.risk.high-risk-after-days:100}") int highRiskAfterDays) {
+        this.lowRiskAfterDays = lowRiskAfterDays;
+        this.highRiskAfterDays = highRiskAfterDays;
+    }
+
+    @Override
+    public Risk evaluate(Workation workation) {
+        long days = Math.max(workation.getDays(), datedDays(workation));
+        if (days > highRiskAfterDays) {
+            return Risk.HIGH_RISK;
+        }
+        return days > lowRiskAfterDays ? Risk.LOW_RISK : Risk.NO_RISK;
+    }
+
+    private static long datedDays(Workation workation) {
+        if (workation.getStart_date() == null || workation.getEnd_date() == null) {
+            return 0;
+        }
+        // Rounded, so a daylight saving change in between does not cost a day
+        long millis = workation.getEnd_date().getTime() - workation.getStart_date().getTime();
+        return Math.round((double) millis / TimeUnit.DAYS.toMillis(1));
+    }
+}
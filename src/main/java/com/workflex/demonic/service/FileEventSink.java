@@ -0,0 +1,56 @@
+package com.workflex.demonic.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends every workation event as one NDJSON line to {@code app.outbox.file-sink.path}, e.g. for a
+ * log shipper to pick up: {@code {id, type, workationId, workation, createdAt}}. Each line is
+ * flushed before the event counts as delivered. Only registered when the path is set.
+ */
+@Component
+@ConditionalOnProperty("app.outbox.file-sink.path")
+public class FileEventSink implements WorkationEventSink {
+
+    private final ObjectMapper objectMapper;
+    private final Writer writer;
+
+    public FileEventSink(ObjectMapper objectMapper,
+                         @Value("${app.outbox.file-sink.path}") Path path) throws IOException {
+        this.objectMapper = objectMapper;
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public void deliver(WorkationOutboxEvent event) throws IOException {
+        ObjectNode line = objectMapper.createObjectNode()
+                .put("id", event.id())
+                .put("type", event.type().name())
+                .put("workationId", event.workationId());
+        line.set("workation", event.payload() != null ? objectMapper.readTree(event.payload()) : null);
+        line.put("createdAt", event.createdAt().toString());
+        writer.write(objectMapper.writeValueAsString(line));
+        writer.write('\n');
+        writer.flush();
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,175 @@
+package com.workflex.demonic.service;
+
+import java.util.function.Predicate;
+
+/**
+ * AVL tree of half-open intervals {@code [start, end)} ordered by start and id, where every node
+ * also holds the largest end in its subtree. Insert and remove take O(log n); finding the k
+ * intervals that overlap a range takes O(log n + k), because subtrees whose largest end lies
+ * before the range are skipped. Not thread-safe.
+ */
+final class IntervalTree {
+
+    private Node root;
+    private int size;
+
+    record Interval(long id, long start, long end) {
+
+        boolean overlaps(long from, long to) {
+            return start < to && end > from;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void insert(Interval interval) {
+        root = insert(root, interval);
+        size++;
+    }
+
+    /**
+     * Remove the interval with the same start and id; returns false when it is not present.
+     */
+    boolean remove(Interval interval) {
+        int before = size;
+        root = remove(root, interval);
+        return size < before;
+    }
+
+    /**
+     * Hand every interval overlapping {@code [from, to)} to {@code visitor} in start order,
+     * until the visitor returns false.
+     */
+    void overlapping(long from, long to, Predicate<Interval> visitor) {
+        visit(root, from, to, visitor);
+    }
+
+    private static boolean visit(Node node, long from, long to, Predicate<Interval> visitor) {
+        if (node == null || node.maxEnd <= from) {
+            return true;
+        }
+        if (!visit(node.left, from, to, visitor)) {
+            return false;
+        }
+        if (node.interval.start() >= to) {
+            // Everything to the right starts even later
+            return true;
+        }
+        if (node.interval.overlaps(from, to) && !visitor.test(node.interval)) {
+            return false;
+        }
+        return visit(node.right, from, to, visitor);
+    }
+
+    private static int compare(Interval a, Interval b) {
+        int byStart = Long.compare(a.start(), b.start());
+        return byStart != 0 ? byStart : Long.compare(a.id(), b.id());
+    }
+
+    private static Node insert(Node node, Interval interval) {
+        if (node == null) {
+            return new Node(interval);
+        }
+        if (compare(interval, node.interval) < 0) {
+            node.left = insert(node.left, interval);
+        } else {
+            node.right = insert(node.right, interval);
+        }
+        return balance(node);
+    }
+
+    private Node remove(Node node, Interval interval) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = compare(interval, node.interval);
+        if (comparison < 0) {
+            node.left = remove(node.left, interval);
+        } else if (comparison > 0) {
+            node.right = remove(node.right, interval);
+        } else {
+            size--;
+            if (node.left == null || node.right == null) {
+                return node.left != null ? node.left : node.right;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.interval = successor.interval;
+            size++;
+            node.right = remove(node.right, successor.interval);
+        }
+        return balance(node);
+    }
+
+    private static Node balance(Node node) {
+        node.update();
+        int factor = height(node.left) - height(node.right);
+        if (factor > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (factor < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static final class Node {
+        private Interval interval;
+        private Node left;
+        private Node right;
+        private int height = 1;
+        private long maxEnd;
+
+        private Node(Interval interval) {
+            this.interval = interval;
+            this.maxEnd = interval.end();
+        }
+
+        private void update() {
+            height = 1 + Math.max(height(left), height(right));
+            maxEnd = interval.end();
+            if (left != null) {
+                maxEnd = Math.max(maxEnd, left.maxEnd);
+            }
+            if (right != null) {
+                maxEnd = Math.max(maxEnd, right.maxEnd);
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.workflex.demonic.service;
+
+import com.workflex.demonic.dto.WorkationResponseDto;
+
+import java.util.function.Consumer;
+
+/**
+ * The rows of one list page, read when they are consumed; see
+ * {@link WorkationService#streamWorkations}.
+ */
+@FunctionalInterface
+public interface PageStream {
+
+    /**
+     * Hand every row of the page to {@code sink} while it is read from the database.
+     *
+     * @return the total number of rows matching the filter
+     */
+    long forEachRow(Consumer<WorkationResponseDto> sink);
+}
@@ -0,0 +1,52 @@
+package com.workflex.demonic.service;
+
+import com.workflex.demonic.model.Risk;
+import com.workflex.demonic.model.Workation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Derives a workation's risk on the server from all {@link RiskRule} beans; the most severe
+ * result wins. Risk sent by clients or found in import files is replaced on every write. After
+ * changing the rules, {@link RiskRescoringJob} re-classifies the stored rows.
+ */
+@Slf4j
+@Component
+public class RiskEngine {
+
+    private final List<RiskRule> rules;
+
+    public RiskEngine(List<RiskRule> rules) {
+        this.rules = List.copyOf(rules);
+        log.info("Risk engine rules: {}", rules.stream().map(rule -> rule.getClass().getSimpleName()).toList());
+    }
+
+    public Risk classify(Workation workation) {
+        Risk risk = Risk.NO_RISK;
+        for (RiskRule rule : rules) {
+            Risk candidate = rule.evaluate(workation);
+            if (candidate != null && severity(candidate) > severity(risk)) {
+                risk = candidate;
+            }
+        }
+        return risk;
+    }
+
+    /**
+     * Set the derived risk on the workation and return it.
+     */
+    public Workation apply(Workation workation) {
+        workation.setRisk(classify(workation));
+        return workation;
+    }
+
+    private static int severity(Risk risk) {
+        return switch (risk) {
+            case NO_RISK -> 0;
+            case LOW_RISK -> 1;
+            case HIGH_RISK -> 2;
+        };
+    }
+}
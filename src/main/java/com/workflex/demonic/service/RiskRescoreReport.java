@@ -0,0 +1,35 @@
+package com.workflex.demonic.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Progress or outcome of a {@link RiskRescoringJob} run.
+ */
+@Getter
+@AllArgsConstructor
+public class RiskRescoreReport {
+
+    public enum State {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    private final State state;
+    private final long scanned;
+    private final long changed;
+    private final long failedChunks;
+    private final Duration elapsed;
+
+    public double getRowsPerSecond() {
+        long millis = elapsed.toMillis();
+        return millis == 0 ? scanned : scanned * 1000.0 / millis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("state=%s, scanned=%d, changed=%d, failedChunks=%d, elapsed=%dms, rowsPerSecond=%.1f",
+                state, scanned, changed, failedChunks, elapsed.toMillis(), getRowsPerSecond());
+    }
+}
@@ -0,0 +1,266 @@
+package com.workflex.demonic.service;
+
+import com.workflex.demonic.model.Risk;
+import com.workflex.demonic.model.Workation;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Re-classifies the risk of every stored workation with the current {@link RiskEngine} rules.
+ * The id range is cut into chunks of {@code app.risk.rescore.chunk-size} ids, processed by
+ * {@code app.risk.rescore.parallelism} threads, each chunk in its own short transaction: one
+ * range read, then batched updates of the rows whose risk changed together with their rollup
+ * deltas. Only changed rows are locked, and only until their chunk commits, so API traffic
+ * keeps flowing. Each update is guarded by the version that was read and advances it, so a row
+ * rewritten by the API in the meantime (which classifies it itself) is left alone, and an API
+ * update that loaded the row earlier fails its optimistic lock instead of overwriting the risk.
+ */
+@Slf4j
+@Component
+public class RiskRescoringJob {
+
+    private static final String SELECT_CHUNK = "SELECT id, employee, country, country_dest, start_date, end_date, " +
+            "days, risk, version FROM workation WHERE id >= ? AND id < ?";
+    private static final int MAX_ATTEMPTS = 3;
+    private static final String UPDATE_RISK =
+            "UPDATE workation SET risk = ?, version = version + 1, last_modified = LOCALTIMESTAMP " +
+            "WHERE id = ? AND version = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RiskEngine riskEngine;
+    private final WorkationRollup rollup;
+    private final WorkationCache cache;
+    private final WorkationChangeFeed changes;
+    private final WorkationOutbox outbox;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int parallelism;
+    private final ExecutorService starter = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("risk-rescore").daemon(true).factory());
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong scanned = new AtomicLong();
+    private final AtomicLong changed = new AtomicLong();
+    private final AtomicLong failedChunks = new AtomicLong();
+
+    private volatile long startedNanos;
+    private volatile RiskRescoreReport lastReport;
+
+    public RiskRescoringJob(JdbcTemplate jdbcTemplate,
+                            RiskEngine riskEngine,
+                            WorkationRollup rollup,
+                            WorkationCache cache,
+                            WorkationChangeFeed changes,
+                            WorkationOutbox outbox,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.risk.rescore.chunk-size:10000}") int chunkSize,
+                            @Value("${app.risk.rescore.parallelism:4}") int parallelism) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.riskEngine = riskEngine;
+        this.rollup = rollup;
+        this.cache = cache;
+        this.changes = changes;
+        this.outbox = outbox;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Start a run in the background; returns false when one is already running.
+     */
+    public boolean start() {
+        if (!claim()) {
+            return false;
+        }
+        starter.execute(this::runClaimed);
+        return true;
+    }
+
+    /**
+     * Run on the calling thread and return the outcome.
+     *
+     * @throws IllegalStateException when a run is already in progress
+     */
+    public RiskRescoreReport run() {
+        if (!claim()) {
+            throw new IllegalStateException("Risk re-scoring is already running");
+        }
+        return runClaimed();
+    }
+
+    /**
+     * Progress of the current run, or the outcome of the last one; null before the first run.
+     */
+    public RiskRescoreReport getStatus() {
+        return running.get() ? report(RiskRescoreReport.State.RUNNING) : lastReport;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        starter.shutdownNow();
+    }
+
+    private boolean claim() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        scanned.set(0);
+        changed.set(0);
+        failedChunks.set(0);
+        startedNanos = System.nanoTime();
+        return true;
+    }
+
+    private RiskRescoreReport runClaimed() {
+        try {
+            RiskRescoreReport report;
+            try {
+                rescoreAll();
+                report = report(failedChunks.get() == 0
+                        ? RiskRescoreReport.State.COMPLETED
+                        : RiskRescoreReport.State.FAILED);
+            } catch (RuntimeException e) {
+                log.error("Risk re-scoring failed: {}", e.getMessage(), e);
+                report = report(RiskRescoreReport.State.FAILED);
+            }
+            if (report.getChanged() > 0) {
+                // Changed rows are not published one by one; consumers reload once the run is over
+                changes.reset();
+            }
+            lastReport = report;
+            log.info("Risk re-scoring finished: {}", report);
+            return report;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void rescoreAll() {
+        Map<String, Object> bounds = jdbcTemplate.queryForMap("SELECT MIN(id) AS low, MAX(id) AS high FROM workation");
+        if (bounds.get("low") == null) {
+            return;
+        }
+        long low = ((Number) bounds.get("low")).longValue();
+        long high = ((Number) bounds.get("high")).longValue();
+
+        try (ExecutorService workers = Executors.newFixedThreadPool(parallelism,
+                Thread.ofPlatform().name("risk-rescore-", 1).factory())) {
+            List<Future<?>> chunks = new ArrayList<>();
+            for (long from = low; from <= high; from += chunkSize) {
+                long to = Math.min(from + chunkSize, high + 1);
+                long chunkFrom = from;
+                chunks.add(workers.submit(() -> rescoreWithRetry(chunkFrom, to)));
+            }
+            for (Future<?> chunk : chunks) {
+                try {
+                    chunk.get();
+                } catch (ExecutionException e) {
+                    failedChunks.incrementAndGet();
+                    log.warn("Risk re-scoring chunk failed: {}", e.getCause().getMessage(), e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    workers.shutdownNow();
+                    throw new IllegalStateException("Risk re-scoring was interrupted", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * A chunk that lost a lock wait to API writes or another chunk is simply read and scored again.
+     */
+    private void rescoreWithRetry(long from, long to) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                long[] counts = transactionTemplate.execute(status -> rescoreChunk(from, to));
+                scanned.addAndGet(counts[0]);
+                changed.addAndGet(counts[1]);
+                return;
+            } catch (ConcurrencyFailureException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Retrying risk re-scoring of ids {} to {}: {}", from, to, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Re-classify the ids in {@code [from, to)}; returns the rows read and the rows changed.
+     */
+    private long[] rescoreChunk(long from, long to) {
+        List<Workation> rows = jdbcTemplate.query(SELECT_CHUNK, (rs, rowNum) -> {
+            Workation workation = new Workation();
+            workation.setId(rs.getLong("id"));
+            workation.setEmployee(rs.getString("employee"));
+            workation.setCountry(rs.getString("country"));
+            workation.setCountry_dest(rs.getString("country_dest"));
+            workation.setStart_date(rs.getTimestamp("start_date"));
+            workation.setEnd_date(rs.getTimestamp("end_date"));
+            workation.setDays(rs.getInt("days"));
+            String risk = rs.getString("risk");
+            workation.setRisk(risk != null ? Risk.valueOf(risk) : null);
+            workation.setVersion(rs.getLong("version"));
+            return workation;
+        }, from, to);
+
+        List<Workation> stale = new ArrayList<>();
+        List<Risk> risks = new ArrayList<>();
+        List<Object[]> args = new ArrayList<>();
+        for (Workation row : rows) {
+            Risk risk = riskEngine.classify(row);
+            if (risk != row.getRisk()) {
+                stale.add(row);
+                risks.add(risk);
+                args.add(new Object[]{risk.name(), row.getId(), row.getVersion()});
+            }
+        }
+        if (args.isEmpty()) {
+            return new long[]{rows.size(), 0};
+        }
+
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_RISK, args);
+        List<WorkationRollup.Contribution> removed = new ArrayList<>();
+        List<WorkationRollup.Contribution> added = new ArrayList<>();
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < stale.size(); i++) {
+            if (updated[i] > 0) {
+                Workation row = stale.get(i);
+                removed.add(WorkationRollup.Contribution.of(row));
+                row.setRisk(risks.get(i));
+                added.add(WorkationRollup.Contribution.of(row));
+                ids.add(row.getId());
+                // What UPDATE_RISK wrote, give or take the database clock
+                row.setVersion(row.getVersion() + 1);
+                row.setLast_modified(new Date());
+                outbox.updated(row);
+            }
+        }
+        rollup.apply(added, removed);
+        cache.evictAll(ids);
+        return new long[]{rows.size(), ids.size()};
+    }
+
+    private RiskRescoreReport report(RiskRescoreReport.State state) {
+        return new RiskRescoreReport(state, scanned.get(), changed.get(), failedChunks.get(),
+                Duration.ofNanos(System.nanoTime() - startedNanos));
+    }
+}
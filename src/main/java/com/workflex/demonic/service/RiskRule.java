@@ -0,0 +1,14 @@
+package com.workflex.demonic.service;
+
+import com.workflex.demonic.model.Risk;
+import com.workflex.demonic.model.Workation;
+
+/**
+ * One input to the server-side risk classification. Every bean implementing this interface is
+ * picked up by {@link RiskEngine}, which keeps the most severe result, so a rule returns
+ * {@link Risk#NO_RISK} when it has no objection.
+ */
+public interface RiskRule {
+
+    Risk evaluate(Workation workation);
+}
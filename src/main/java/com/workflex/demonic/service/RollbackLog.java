@@ -0,0 +1,41 @@
+package com.workflex.demonic.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Undo steps for in-memory state changed inside a transaction, kept per owner as a transaction
+ * resource and run in reverse order if the transaction rolls back. Outside a transaction changes
+ * are final.
+ */
+final class RollbackLog {
+
+    private RollbackLog() {
+    }
+
+    static void onRollback(Object owner, Runnable undo) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Deque<Runnable> undoLog = (Deque<Runnable>) TransactionSynchronizationManager.getResource(owner);
+        if (undoLog == null) {
+            Deque<Runnable> steps = new ArrayDeque<>();
+            TransactionSynchronizationManager.bindResource(owner, steps);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(owner);
+                    if (status != STATUS_COMMITTED) {
+                        steps.forEach(Runnable::run);
+                    }
+                }
+            });
+            undoLog = steps;
+        }
+        undoLog.push(undo);
+    }
+}
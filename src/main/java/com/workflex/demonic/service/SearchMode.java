@@ -0,0 +1,16 @@
+package com.workflex.demonic.service;
+
+/**
+ * How text filters match the normalized (trimmed, lower-cased) search columns.
+ * EXACT and PREFIX are served by the search column indexes; CONTAINS has to scan.
+ */
+public enum SearchMode {
+    EXACT,
+    PREFIX,
+    CONTAINS;
+
+    /**
+     * Used when a request does not choose a mode: the substring match the API has always done.
+     */
+    public static final SearchMode DEFAULT = CONTAINS;
+}
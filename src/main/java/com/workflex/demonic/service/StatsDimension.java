@@ -0,0 +1,36 @@
+package com.workflex.demonic.service;
+
+import java.util.Locale;
+
+/**
+ * Dimensions the workation analytics can be grouped by, with their rollup column.
+ */
+public enum StatsDimension {
+    RISK("risk"),
+    COUNTRY("country"),
+    COUNTRY_DEST("country_dest"),
+    MONTH("trip_month");
+
+    private final String column;
+
+    StatsDimension(String column) {
+        this.column = column;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    /**
+     * Accepts {@code risk}, {@code country}, {@code countryDest} / {@code country_dest} and {@code month}.
+     */
+    public static StatsDimension from(String value) {
+        String name = value.trim().replaceAll("([a-z])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+        for (StatsDimension dimension : values()) {
+            if (dimension.name().equals(name)) {
+                return dimension;
+            }
+        }
+        throw new IllegalArgumentException("Unknown analytics dimension: " + value);
+    }
+}
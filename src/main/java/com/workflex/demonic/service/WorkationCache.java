@@ -0,0 +1,250 @@
+package com.workflex.demonic.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.workflex.demonic.dto.WorkationResponseDto;
+import com.workflex.demonic.model.Risk;
+import com.workflex.demonic.model.Workation;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Read-through caches in front of the repository: workations by id, and list query results keyed by
+ * the normalized filter plus the page or cursor position. A change evicts its id and only the cached
+ * queries whose filter matches the row before or after the change. Evictions are repeated after
+ * commit, so a read racing the write cannot leave a stale entry behind.
+ * Hit/miss/eviction metrics are published as {@code cache.*} meters tagged {@code cache=workations.*}.
+ * Every eviction also advances the change generation behind {@link #listTag()}.
+ * <p>
+ * Loads run on the calling thread outside the cache's internal locks, so a virtual thread blocked
+ * on JDBC never pins its carrier; concurrent callers for the same key wait for the first load.
+ */
+@Component
+public class WorkationCache {
+
+    private final boolean enabled;
+    private final AsyncCache<Long, WorkationResponseDto> byId;
+    private final AsyncCache<QueryKey, Object> queries;
+    private final String instance = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong generation = new AtomicLong();
+
+    public WorkationCache(MeterRegistry meterRegistry,
+                          @Value("${app.cache.enabled:true}") boolean enabled,
+                          @Value("${app.cache.by-id.max-size:10000}") long maxEntities,
+                          @Value("${app.cache.queries.max-size:1000}") long maxQueries,
+                          @Value("${app.cache.ttl:PT10M}") Duration ttl) {
+        this.enabled = enabled;
+        this.byId = CaffeineCacheMetrics.monitor(meterRegistry,
+                Caffeine.newBuilder().maximumSize(maxEntities).expireAfterWrite(ttl).recordStats().<Long, WorkationResponseDto>buildAsync(),
+                "workations.byId");
+        this.queries = CaffeineCacheMetrics.monitor(meterRegistry,
+                Caffeine.newBuilder().maximumSize(maxQueries).expireAfterWrite(ttl).recordStats().<QueryKey, Object>buildAsync(),
+                "workations.queries");
+    }
+
+    public WorkationResponseDto getById(Long id, Function<Long, WorkationResponseDto> loader) {
+        return enabled ? load(byId, id, loader) : loader.apply(id);
+    }
+
+    /**
+     * The cached response of a workation, without loading it; null when it is not cached.
+     */
+    public WorkationResponseDto peekById(Long id) {
+        if (!enabled) {
+            return null;
+        }
+        CompletableFuture<WorkationResponseDto> future = byId.getIfPresent(id);
+        return future != null && future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+    }
+
+    /**
+     * Validator of list results: changes with every write to the table, whether the cache is
+     * enabled or not. It advances before and again after commit, so a result read while a write
+     * was in flight never carries the generation that follows the write. The instance part keeps
+     * tags of an earlier run from matching after a restart.
+     */
+    public String listTag() {
+        return instance + "-" + generation.get();
+    }
+
+    /**
+     * Validator of a single workation: its row version, with the instance part of {@link #listTag()},
+     * so a version tag of an earlier run does not match a row that was recreated since.
+     */
+    public String versionTag(long version) {
+        return instance + "-" + version;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T getQuery(WorkationFilter filter, Object position, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return (T) load(queries, new QueryKey(normalize(filter), position), key -> loader.get());
+    }
+
+    /**
+     * Evict a changed workation. {@code states} are the row before and/or after the change;
+     * when none are known every cached query is dropped.
+     */
+    public void evict(Long id, Snapshot... states) {
+        evictNow(id, List.of(states));
+        afterCommit(() -> evictNow(id, List.of(states)));
+    }
+
+    /**
+     * Drop every cached query result, e.g. after rows were written outside the service.
+     */
+    public void evictQueries() {
+        evictQueriesNow();
+        afterCommit(this::evictQueriesNow);
+    }
+
+    public void evictAll(Collection<Long> ids) {
+        byId.synchronous().invalidateAll(ids);
+        evictQueriesNow();
+        afterCommit(() -> {
+            byId.synchronous().invalidateAll(ids);
+            evictQueriesNow();
+        });
+    }
+
+    public void clear() {
+        byId.synchronous().invalidateAll();
+        evictQueriesNow();
+    }
+
+    /**
+     * Only the placeholder future is created inside the cache's compute; the loader itself runs
+     * afterwards on this thread. A failed or null load is dropped from the cache by Caffeine.
+     */
+    private static <K, V> V load(AsyncCache<K, V> cache, K key, Function<K, V> loader) {
+        CompletableFuture<V> placeholder = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> placeholder);
+        if (future == placeholder) {
+            try {
+                placeholder.complete(loader.apply(key));
+            } catch (RuntimeException e) {
+                placeholder.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void evictQueriesNow() {
+        generation.incrementAndGet();
+        queries.synchronous().invalidateAll();
+    }
+
+    private void evictNow(Long id, List<Snapshot> states) {
+        generation.incrementAndGet();
+        if (id != null) {
+            byId.synchronous().invalidate(id);
+        }
+        if (states.isEmpty()) {
+            queries.synchronous().invalidateAll();
+            return;
+        }
+        queries.asMap().keySet().removeIf(key -> states.stream().anyMatch(state -> matches(key.filter(), state)));
+    }
+
+    private void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * Mirrors the predicates built by WorkationService for the given (normalized) filter.
+     */
+    private static boolean matches(WorkationFilter filter, Snapshot row) {
+        return matchesText(filter.getEmployee(), row.employee(), filter.getMatch())
+                && matchesText(filter.getCountry(), row.country(), filter.getMatch())
+                && matchesText(filter.getCountryDest(), row.countryDest(), filter.getMatch())
+                && (filter.getRisk() == null || filter.getRisk() == row.risk())
+                && (filter.getFrom() == null || row.end() != null && row.end() > filter.windowStart())
+                && (filter.getTo() == null || row.start() != null && row.start() < filter.windowEnd())
+                && (filter.getMinDays() == null || row.days() >= filter.getMinDays())
+                && (filter.getMaxDays() == null || row.days() <= filter.getMaxDays());
+    }
+
+    private static boolean matchesText(String term, String value, SearchMode mode) {
+        if (term == null) {
+            return true;
+        }
+        if (value == null) {
+            return false;
+        }
+        return switch (mode) {
+            case EXACT -> value.equals(term);
+            case PREFIX -> value.startsWith(term);
+            case CONTAINS -> value.contains(term);
+        };
+    }
+
+    private static WorkationFilter normalize(WorkationFilter filter) {
+        return new WorkationFilter(
+                normalizeText(filter.getEmployee()),
+                normalizeText(filter.getCountry()),
+                normalizeText(filter.getCountryDest()),
+                filter.getRisk(),
+                filter.getFrom(),
+                filter.getTo(),
+                filter.getMinDays(),
+                filter.getMaxDays(),
+                filter.getMatch() != null ? filter.getMatch() : SearchMode.DEFAULT
+        );
+    }
+
+    private static String normalizeText(String value) {
+        return value == null || value.isBlank() ? null : Workation.normalize(value);
+    }
+
+    /**
+     * The filterable state of a row at one point in time.
+     */
+    public record Snapshot(String employee, String country, String countryDest, Risk risk,
+                           Long start, Long end, int days) {
+
+        public static Snapshot of(Workation workation) {
+            return new Snapshot(
+                    Workation.normalize(workation.getEmployee()),
+                    Workation.normalize(workation.getCountry()),
+                    Workation.normalize(workation.getCountry_dest()),
+                    workation.getRisk(),
+                    workation.getStart_date() != null ? workation.getStart_date().getTime() : null,
+                    workation.getEnd_date() != null ? workation.getEnd_date().getTime() : null,
+                    workation.getDays()
+            );
+        }
+    }
+
+    private record QueryKey(WorkationFilter filter, Object position) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.workflex.demonic.service;
+
+import com.workflex.demonic.dto.WorkationResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * One committed change in the {@link WorkationChangeFeed}. Created and updated changes carry the
+ * workation as committed; deletes only the id. {@code RESET} stands for a bulk change (CSV import,
+ * risk re-scoring) after which consumers should reload instead of patching.
+ */
+@Getter
+@AllArgsConstructor
+public class WorkationChange {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED, RESET
+    }
+
+    private final long offset;
+    private final Type type;
+    private final Long id;
+    private final WorkationResponseDto workation;
+    private final Instant timestamp;
+}
@@ -0,0 +1,183 @@
+package com.workflex.demonic.service;
+
+import com.workflex.demonic.dto.WorkationMapper;
+import com.workflex.demonic.dto.WorkationResponseDto;
+import com.workflex.demonic.model.Workation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process ring buffer of committed workation changes, numbered by a running offset. Changes
+ * published inside a transaction are appended after it commits, in publication order, and
+ * dropped if it rolls back, so readers never see a write that did not happen. The workation is
+ * mapped at commit, so it carries the committed version.
+ * <p>
+ * The buffer keeps the last {@code app.changes.buffer-size} changes; older offsets are
+ * overwritten. Offsets restart with the application, so event ids ({@link #eventId(long)})
+ * carry an instance part, like {@link WorkationCache#listTag()}.
+ */
+@Component
+public class WorkationChangeFeed {
+
+    private final WorkationMapper mapper;
+    private final WorkationChange[] ring;
+    private final String instance = Long.toString(System.currentTimeMillis(), 36);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+
+    private long head;
+
+    public WorkationChangeFeed(WorkationMapper mapper,
+                               @Value("${app.changes.buffer-size:10000}") int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("app.changes.buffer-size must be at least 1");
+        }
+        this.mapper = mapper;
+        this.ring = new WorkationChange[capacity];
+    }
+
+    public void created(Workation workation) {
+        publish(new Pending(WorkationChange.Type.CREATED, workation.getId(), workation));
+    }
+
+    public void updated(Workation workation) {
+        publish(new Pending(WorkationChange.Type.UPDATED, workation.getId(), workation));
+    }
+
+    public void deleted(Long id) {
+        publish(new Pending(WorkationChange.Type.DELETED, id, null));
+    }
+
+    /**
+     * Rows were changed in bulk past the service; consumers should reload.
+     */
+    public void reset() {
+        publish(new Pending(WorkationChange.Type.RESET, null, null));
+    }
+
+    /**
+     * The offset the next change will get.
+     */
+    public long head() {
+        lock.lock();
+        try {
+            return head;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Up to {@code limit} changes from offset {@code from} on, waiting up to {@code timeout} for the
+     * first one; empty when none arrived in time. Starts at the oldest retained change when
+     * {@code from} has been overwritten, so a first offset above {@code from} means changes were lost.
+     */
+    public List<WorkationChange> poll(long from, int limit, Duration timeout) throws InterruptedException {
+        long remaining = timeout.toNanos();
+        lock.lock();
+        try {
+            while (head <= from) {
+                if (remaining <= 0) {
+                    return List.of();
+                }
+                remaining = appended.awaitNanos(remaining);
+            }
+            long start = Math.max(from, head - ring.length);
+            List<WorkationChange> changes = new ArrayList<>((int) Math.min(limit, head - start));
+            for (long offset = start; offset < head && changes.size() < limit; offset++) {
+                changes.add(ring[slot(offset)]);
+            }
+            return changes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Event id of the change at {@code offset}; an id of {@code head() - 1} resumes at the head.
+     */
+    public String eventId(long offset) {
+        return instance + ":" + offset;
+    }
+
+    /**
+     * The offset to continue from after the change with {@code eventId}, or -1 when the id was
+     * issued by another instance, is malformed, or its successors have been overwritten.
+     */
+    public long resumeAfter(String eventId) {
+        int separator = eventId.indexOf(':');
+        if (separator < 0 || !eventId.substring(0, separator).equals(instance)) {
+            return -1;
+        }
+        long next;
+        try {
+            next = Long.parseLong(eventId.substring(separator + 1)) + 1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+        lock.lock();
+        try {
+            return next < head - ring.length || next > head ? -1 : next;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void publish(Pending change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            append(List.of(change));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<Pending> pending = (List<Pending>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<Pending> changes = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(WorkationChangeFeed.this);
+                    if (status == STATUS_COMMITTED) {
+                        append(changes);
+                    }
+                }
+            });
+            pending = changes;
+        }
+        pending.add(change);
+    }
+
+    private void append(List<Pending> changes) {
+        Instant now = Instant.now();
+        List<WorkationResponseDto> workations = changes.stream()
+                .map(change -> change.workation() != null ? mapper.toResponseDto(change.workation()) : null)
+                .toList();
+        lock.lock();
+        try {
+            for (int i = 0; i < changes.size(); i++) {
+                Pending change = changes.get(i);
+                ring[slot(head)] = new WorkationChange(head, change.type(), change.id(), workations.get(i), now);
+                head++;
+            }
+            appended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int slot(long offset) {
+        return (int) (offset % ring.length);
+    }
+
+    private record Pending(WorkationChange.Type type, Long id, Workation workation) {
+    }
+}
@@ -0,0 +1,137 @@
+package com.workflex.demonic.service;
+
+import com.workflex.demonic.dto.WorkationResponseDto;
+import com.workflex.demonic.model.Risk;
+import com.workflex.demonic.model.Workation;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Set;
+
+/**
+ * Keyset position in a sorted workation listing: the sort column and direction plus the sort
+ * value and id of the last row returned. Clients get it as an opaque URL-safe token.
+ */
+@Getter
+public class WorkationCursor {
+
+    public static final Set<String> SORTABLE_FIELDS = Set.of(
+            "id", "employee", "country", "country_dest", "start_date", "end_date", "days", "risk");
+
+    private static final String SEPARATOR = "|";
+
+    private final String sortBy;
+    private final Sort.Direction direction;
+    private final long id;
+    private final Object value;
+
+    private WorkationCursor(String sortBy, Sort.Direction direction, long id, Object value) {
+        this.sortBy = sortBy;
+        this.direction = direction;
+        this.id = id;
+        this.value = value;
+    }
+
+    public static WorkationCursor after(WorkationResponseDto last, String sortBy, Sort.Direction direction) {
+        return new WorkationCursor(sortBy, direction, last.getId(), sortValue(last, sortBy));
+    }
+
+    /**
+     * Order by the sort column with id as tie-breaker, so every row has a unique position.
+     */
+    public static Sort sortFor(String sortBy, Sort.Direction direction) {
+        requireSortable(sortBy);
+        Sort sort = Sort.by(direction, sortBy);
+        return "id".equals(sortBy) ? sort : sort.and(Sort.by(direction, "id"));
+    }
+
+    public static void requireSortable(String sortBy) {
+        if (!SORTABLE_FIELDS.contains(sortBy)) {
+            throw new IllegalArgumentException("Unsupported sort field: " + sortBy);
+        }
+    }
+
+    public String encode() {
+        String raw = sortBy + SEPARATOR + direction + SEPARATOR + id + SEPARATOR + encodeValue(value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static WorkationCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // The value goes last because string values may contain the separator
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            String sortBy = parts[0];
+            requireSortable(sortBy);
+            return new WorkationCursor(sortBy, Sort.Direction.fromString(parts[1]),
+                    Long.parseLong(parts[2]), decodeValue(sortBy, parts[3]));
+        } catch (IllegalArgumentException e) {
+            // Also covers malformed Base64 and NumberFormatException
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    public boolean matches(String sortBy, Sort.Direction direction) {
+        return this.sortBy.equals(sortBy) && this.direction == direction;
+    }
+
+    /**
+     * Rows strictly after this position: (value, id) past the cursor in the sort direction.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Specification<Workation> toSpecification() {
+        boolean ascending = direction.isAscending();
+        return (root, query, cb) -> {
+            Path<Long> idPath = root.get("id");
+            Predicate idAfter = ascending ? cb.greaterThan(idPath, id) : cb.lessThan(idPath, id);
+            if ("id".equals(sortBy)) {
+                return idAfter;
+            }
+
+            Path<Comparable> path = root.get(sortBy);
+            Comparable key = (Comparable) value;
+            Predicate valueAfter = ascending ? cb.greaterThan(path, key) : cb.lessThan(path, key);
+            return cb.or(valueAfter, cb.and(cb.equal(path, key), idAfter));
+        };
+    }
+
+    private static Object sortValue(WorkationResponseDto row, String sortBy) {
+        return switch (sortBy) {
+            case "id" -> row.getId();
+            case "employee" -> row.getEmployee();
+            case "country" -> row.getCountry();
+            case "country_dest" -> row.getCountryDest();
+            case "start_date" -> row.getStartDate();
+            case "end_date" -> row.getEndDate();
+            case "days" -> row.getDays();
+            case "risk" -> row.getRisk();
+            default -> throw new IllegalArgumentException("Unsupported sort field: " + sortBy);
+        };
+    }
+
+    private static String encodeValue(Object value) {
+        if (value instanceof Date date) {
+            return Long.toString(date.getTime());
+        }
+        return String.valueOf(value);
+    }
+
+    private static Object decodeValue(String sortBy, String raw) {
+        return switch (sortBy) {
+            case "id" -> Long.parseLong(raw);
+            case "days" -> Integer.parseInt(raw);
+            case "start_date", "end_date" -> new Date(Long.parseLong(raw));
+            case "risk" -> Risk.valueOf(raw);
+            default -> raw;
+        };
+    }
+}
@@ -0,0 +1,228 @@
+package com.workflex.demonic.service;
+
+import com.workflex.demonic.exception.WorkationBudgetExceededException;
+import com.workflex.demonic.model.Workation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Running total of workation days per employee (by the normalized name) and calendar year, so the
+ * yearly limit of days abroad is checked and reported with a map lookup instead of summing days
+ * over the employee's trips. A trip spanning several years counts its days against each year in
+ * proportion to the part of {@code [start_date, end_date)} that falls into it.
+ * <p>
+ * Like {@link WorkationOverlapIndex}, changes are checked and applied in one step, take effect
+ * immediately and are undone if the surrounding transaction rolls back. The totals are loaded
+ * from the table by {@link DataInitializer}; rows written past the service are picked up by
+ * {@link #rebuild()}.
+ */
+@Slf4j
+@Component
+public class WorkationDayBudget {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxDaysPerYear;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<Key, Long> totals = new HashMap<>();
+    private Map<Long, Usage> byId = new HashMap<>();
+
+    public WorkationDayBudget(JdbcTemplate jdbcTemplate,
+                              @Value("${app.budget.max-days-per-year:183}") int maxDaysPerYear) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxDaysPerYear = maxDaysPerYear;
+    }
+
+    public int getMaxDaysPerYear() {
+        return maxDaysPerYear;
+    }
+
+    /**
+     * Check the workation against the limit and count its current days, replacing what was counted
+     * for its id. Only years whose total grows are checked, so shortening a trip always succeeds.
+     *
+     * @throws WorkationBudgetExceededException when a year of its employee would exceed the limit
+     */
+    public void reserve(Workation workation) {
+        Usage usage = Usage.of(workation);
+        lock.writeLock().lock();
+        try {
+            Usage previous = byId.get(workation.getId());
+            exceeded(workation.getEmployee(), usage, previous).ifPresent(e -> {
+                throw e;
+            });
+            replace(workation.getId(), usage);
+            RollbackLog.onRollback(this, () -> replace(workation.getId(), previous));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void release(Long id) {
+        lock.writeLock().lock();
+        try {
+            Usage previous = replace(id, null);
+            if (previous != null) {
+                RollbackLog.onRollback(this, () -> replace(id, previous));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The limit violation saving the workation (new, or replacing the one with its id) would cause, if any.
+     */
+    public Optional<WorkationBudgetExceededException> check(Workation workation) {
+        lock.readLock().lock();
+        try {
+            return exceeded(workation.getEmployee(), Usage.of(workation),
+                    workation.getId() == null ? null : byId.get(workation.getId()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Days counted against {@code year} for {@code employee}.
+     */
+    public long usedDays(String employee, int year) {
+        lock.readLock().lock();
+        try {
+            return totals.getOrDefault(new Key(Workation.normalize(employee), year), 0L);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reload the totals from the workation table. Like {@link WorkationOverlapIndex#rebuild()}, the
+     * read runs under the write lock, so no reservation is lost to the swap.
+     */
+    public void rebuild() {
+        Map<Key, Long> counted = new HashMap<>();
+        Map<Long, Usage> usages = new HashMap<>();
+        lock.writeLock().lock();
+        try {
+            jdbcTemplate.query("SELECT id, employee_search, start_date, end_date, days FROM workation " +
+                    "WHERE employee_search IS NOT NULL AND start_date IS NOT NULL", rs -> {
+                Usage usage = Usage.of(rs.getString(2), rs.getTimestamp(3).getTime(),
+                        rs.getTimestamp(4) != null ? rs.getTimestamp(4).getTime() : null, rs.getInt(5));
+                usages.put(rs.getLong(1), usage);
+                add(counted, usage, 1);
+            });
+            totals = counted;
+            byId = usages;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Rebuilt workation day budget: {} employee years", counted.size());
+    }
+
+    private Optional<WorkationBudgetExceededException> exceeded(String employee, Usage usage, Usage previous) {
+        if (usage == null) {
+            return Optional.empty();
+        }
+        for (Map.Entry<Integer, Integer> year : usage.daysPerYear().entrySet()) {
+            Key key = new Key(usage.employee(), year.getKey());
+            long before = previous != null && previous.employee().equals(usage.employee())
+                    ? previous.daysPerYear().getOrDefault(year.getKey(), 0)
+                    : 0;
+            if (year.getValue() <= before) {
+                continue;
+            }
+            long total = totals.getOrDefault(key, 0L) - before + year.getValue();
+            if (total > maxDaysPerYear) {
+                return Optional.of(new WorkationBudgetExceededException(employee, year.getKey(), total,
+                        maxDaysPerYear));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Usage replace(Long id, Usage usage) {
+        lock.writeLock().lock();
+        try {
+            Usage previous = usage != null ? byId.put(id, usage) : byId.remove(id);
+            if (previous != null) {
+                add(totals, previous, -1);
+            }
+            if (usage != null) {
+                add(totals, usage, 1);
+            }
+            return previous;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void add(Map<Key, Long> totals, Usage usage, int sign) {
+        usage.daysPerYear().forEach((year, days) -> totals.merge(new Key(usage.employee(), year), (long) sign * days,
+                (total, delta) -> total + delta == 0 ? null : total + delta));
+    }
+
+    private record Key(String employee, int year) {
+    }
+
+    /**
+     * The days one workation counts against each year of its employee.
+     */
+    record Usage(String employee, Map<Integer, Integer> daysPerYear) {
+
+        static Usage of(Workation workation) {
+            if (workation.getEmployee() == null || workation.getStart_date() == null) {
+                return null;
+            }
+            return of(Workation.normalize(workation.getEmployee()), workation.getStart_date().getTime(),
+                    workation.getEnd_date() != null ? workation.getEnd_date().getTime() : null, workation.getDays());
+        }
+
+        static Usage of(String employee, long start, Long end, int days) {
+            LocalDate from = day(start);
+            LocalDate to = end != null ? day(end) : from;
+            return new Usage(employee, split(from, to, days));
+        }
+
+        /**
+         * Split {@code days} across the years of {@code [from, to)} in proportion to the days of
+         * each year, rounding on the running total so the parts add up to {@code days}. Trips
+         * within one year, or without a valid end, count all days against the start year.
+         */
+        static Map<Integer, Integer> split(LocalDate from, LocalDate to, int days) {
+            Map<Integer, Integer> perYear = new LinkedHashMap<>();
+            long span = ChronoUnit.DAYS.between(from, to);
+            if (span <= 0 || from.getYear() == to.minusDays(1).getYear()) {
+                perYear.put(from.getYear(), days);
+                return perYear;
+            }
+            int counted = 0;
+            for (int year = from.getYear(); year <= to.minusDays(1).getYear(); year++) {
+                LocalDate yearEnd = LocalDate.of(year + 1, 1, 1);
+                long through = ChronoUnit.DAYS.between(from, yearEnd.isBefore(to) ? yearEnd : to);
+                int share = (int) (days * through / span) - counted;
+                if (share > 0) {
+                    perYear.put(year, share);
+                }
+                counted += share;
+            }
+            return perYear;
+        }
+
+        private static LocalDate day(long epochMillis) {
+            return LocalDate.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.workflex.demonic.service;
+
+/**
+ * A downstream receiver of workation changes. Every bean implementing this interface gets every
+ * event from {@link WorkationOutboxDispatcher}, in outbox order and at least once: an event is
+ * handed to all sinks again when any of them fails, so sinks should ignore event ids they have
+ * already seen. Without any sink bean events are still written and wait in the outbox table until
+ * one is configured.
+ */
+public interface WorkationEventSink {
+
+    /**
+     * Deliver one event; return only once it is safely handed over. Throw to have it retried.
+     */
+    void deliver(WorkationOutboxEvent event) throws Exception;
+}
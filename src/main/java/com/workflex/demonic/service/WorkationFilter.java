@@ -0,0 +1,46 @@
+package com.workflex.demonic.service;
+
+import com.workflex.demonic.model.Risk;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkationFilter {
+    private String employee;
+    private String country;
+    private String countryDest;
+    private Risk risk;
+    // Window of days (inclusive, yyyy-MM-dd): trips abroad on any day from 'from' to 'to'
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+    private Integer minDays;
+    private Integer maxDays;
+    private SearchMode match = SearchMode.DEFAULT;
+
+    /**
+     * Start of the {@code from} day in epoch millis; matching trips end after it. Null when unset.
+     */
+    public Long windowStart() {
+        return from == null ? null : startOfDay(from);
+    }
+
+    /**
+     * Start of the day after {@code to} in epoch millis; matching trips start before it. Null when unset.
+     */
+    public Long windowEnd() {
+        return to == null ? null : startOfDay(to.plusDays(1));
+    }
+
+    private static long startOfDay(LocalDate day) {
+        return day.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
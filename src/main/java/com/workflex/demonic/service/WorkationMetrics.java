@@ -0,0 +1,100 @@
+package com.workflex.demonic.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Timers for the service methods ({@code workation.service}), tagged with the operation, which
+ * filters were set and the text match mode. Together with the query timers of the repository
+ * ({@code workation.query}) and the serialization timer ({@code workation.serialization}) they
+ * split a request's {@code http.server.requests} time into its parts.
+ */
+@Component
+public class WorkationMetrics {
+
+    public static final String SERVICE_TIMER = "workation.service";
+
+    private final MeterRegistry meterRegistry;
+
+    public WorkationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T time(String operation, Supplier<T> work) {
+        return time(operation, null, work);
+    }
+
+    /**
+     * Run {@code work} and record its duration, also when it throws.
+     */
+    public <T> T time(String operation, WorkationFilter filter, Supplier<T> work) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = work.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(meterRegistry.timer(SERVICE_TIMER,
+                    "operation", operation,
+                    "filters", filters(filter),
+                    "match", filter != null && hasText(filter) ? match(filter) : "none",
+                    "outcome", outcome));
+        }
+    }
+
+    public void time(String operation, Runnable work) {
+        time(operation, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * The set filters in a fixed order, e.g. {@code country+risk+dates}, or {@code none}. The date
+     * window and the day range count as one filter each, so the tag has at most 64 values.
+     */
+    static String filters(WorkationFilter filter) {
+        if (filter == null) {
+            return "none";
+        }
+        List<String> names = new ArrayList<>(6);
+        if (isSet(filter.getEmployee())) {
+            names.add("employee");
+        }
+        if (isSet(filter.getCountry())) {
+            names.add("country");
+        }
+        if (isSet(filter.getCountryDest())) {
+            names.add("countryDest");
+        }
+        if (filter.getRisk() != null) {
+            names.add("risk");
+        }
+        if (filter.getFrom() != null || filter.getTo() != null) {
+            names.add("dates");
+        }
+        if (filter.getMinDays() != null || filter.getMaxDays() != null) {
+            names.add("days");
+        }
+        return names.isEmpty() ? "none" : String.join("+", names);
+    }
+
+    private static boolean hasText(WorkationFilter filter) {
+        return isSet(filter.getEmployee()) || isSet(filter.getCountry()) || isSet(filter.getCountryDest());
+    }
+
+    private static String match(WorkationFilter filter) {
+        return (filter.getMatch() != null ? filter.getMatch() : SearchMode.DEFAULT).name().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isSet(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -0,0 +1,116 @@
+package com.workflex.demonic.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workflex.demonic.dto.WorkationMapper;
+import com.workflex.demonic.model.Workation;
+import com.workflex.demonic.repository.WorkationRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes workation changes to the {@code workation_outbox} table in the transaction that makes
+ * them, so an event exists exactly when its change was committed. Changes recorded during a
+ * transaction are inserted with one JDBC batch just before it commits, after the persistence
+ * context has been flushed, so each payload carries the version the row is committed with.
+ * {@link WorkationOutboxDispatcher} delivers the rows; without a {@link WorkationEventSink} they
+ * wait in the table until one is configured.
+ */
+@Component
+public class WorkationOutbox {
+
+    private static final String INSERT = "INSERT INTO workation_outbox " +
+            "(event_type, workation_id, payload, created_at, next_attempt_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final WorkationRepository workationRepository;
+    private final WorkationMapper mapper;
+    private final ObjectMapper objectMapper;
+
+    public WorkationOutbox(JdbcTemplate jdbcTemplate,
+                           WorkationRepository workationRepository,
+                           WorkationMapper mapper,
+                           ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.workationRepository = workationRepository;
+        this.mapper = mapper;
+        this.objectMapper = objectMapper;
+    }
+
+    public void created(Workation workation) {
+        record(new Pending(WorkationChange.Type.CREATED, workation.getId(), workation));
+    }
+
+    public void updated(Workation workation) {
+        record(new Pending(WorkationChange.Type.UPDATED, workation.getId(), workation));
+    }
+
+    public void deleted(Long id) {
+        record(new Pending(WorkationChange.Type.DELETED, id, null));
+    }
+
+    /**
+     * @throws IllegalStateException outside a transaction, where the event could not share the
+     *                               fate of the change
+     */
+    private void record(Pending change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Outbox events must be recorded inside the transaction of the change");
+        }
+        @SuppressWarnings("unchecked")
+        List<Pending> pending = (List<Pending>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<Pending> changes = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    write(changes);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(WorkationOutbox.this);
+                }
+            });
+            pending = changes;
+        }
+        pending.add(change);
+    }
+
+    /**
+     * Runs inside the transaction; a failure here rolls the change back with its events.
+     */
+    private void write(List<Pending> changes) {
+        // Hibernate would flush at commit anyway; doing it now advances the versions first. Flushed
+        // through the repository so a version conflict surfaces as OptimisticLockingFailureException
+        workationRepository.flush();
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> args = new ArrayList<>(changes.size());
+        for (Pending change : changes) {
+            args.add(new Object[]{change.type().name(), change.id(), payload(change.workation()), now, now});
+        }
+        jdbcTemplate.batchUpdate(INSERT, args);
+    }
+
+    private String payload(Workation workation) {
+        if (workation == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(mapper.toResponseDto(workation));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox payload of workation " + workation.getId(), e);
+        }
+    }
+
+    private record Pending(WorkationChange.Type type, Long id, Workation workation) {
+    }
+}
@@ -0,0 +1,250 @@
+package com.workflex.demonic.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Drains the {@code workation_outbox} table to every {@link WorkationEventSink} on a background
+ * thread, every {@code app.outbox.poll-interval} and for as long as full batches keep coming.
+ * Events are read {@code app.outbox.batch-size} at a time in id order and handed to the sinks one
+ * by one; the delivered ones are deleted per batch. The next batch is only read once the sinks have
+ * taken the current one, so a slow sink slows the drain down while writers keep appending to the
+ * table.
+ * <p>
+ * Delivery is at least once and in order: when a sink fails, the event is retried with exponential
+ * backoff (from {@code app.outbox.initial-backoff} up to {@code app.outbox.max-backoff}) and the
+ * events behind it wait. After {@code app.outbox.max-attempts} attempts it is marked dead and left
+ * in the table, and delivery moves on. Outcomes are counted as
+ * {@code workation.outbox.events{outcome=delivered|retried|dead|pruned}}.
+ * <p>
+ * Every {@code app.outbox.prune-interval}, events older than {@code app.outbox.retention} are
+ * deleted: dead ones, and all of them when no sink is configured, since nothing would ever take
+ * them out of the table.
+ */
+@Slf4j
+@Component
+public class WorkationOutboxDispatcher {
+
+    private static final String SELECT_BATCH = "SELECT id, event_type, workation_id, payload, created_at, " +
+            "attempts, next_attempt_at FROM workation_outbox WHERE dead = FALSE ORDER BY id FETCH FIRST ? ROWS ONLY";
+    private static final String DELETE = "DELETE FROM workation_outbox WHERE id = ?";
+    private static final String RETRY = "UPDATE workation_outbox SET attempts = ?, next_attempt_at = ?, " +
+            "last_error = ?, dead = ? WHERE id = ?";
+    private static final String PRUNE = "DELETE FROM workation_outbox WHERE created_at < ?";
+    private static final String PRUNE_DEAD = PRUNE + " AND dead = TRUE";
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<WorkationEventSink> sinks;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration retention;
+    private final Duration pruneInterval;
+    private final Counter delivered;
+    private final Counter retried;
+    private final Counter dead;
+    private final Counter pruned;
+    private final ReentrantLock draining = new ReentrantLock();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("outbox-dispatcher").daemon(true).factory());
+
+    public WorkationOutboxDispatcher(JdbcTemplate jdbcTemplate,
+                                     ObjectProvider<WorkationEventSink> sinks,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.outbox.batch-size:100}") int batchSize,
+                                     @Value("${app.outbox.poll-interval:PT1S}") Duration pollInterval,
+                                     @Value("${app.outbox.max-attempts:10}") int maxAttempts,
+                                     @Value("${app.outbox.initial-backoff:PT1S}") Duration initialBackoff,
+                                     @Value("${app.outbox.max-backoff:PT5M}") Duration maxBackoff,
+                                     @Value("${app.outbox.retention:P7D}") Duration retention,
+                                     @Value("${app.outbox.prune-interval:PT1H}") Duration pruneInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sinks = sinks.orderedStream().toList();
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.retention = retention;
+        this.pruneInterval = pruneInterval;
+        this.delivered = meterRegistry.counter("workation.outbox.events", "outcome", "delivered");
+        this.retried = meterRegistry.counter("workation.outbox.events", "outcome", "retried");
+        this.dead = meterRegistry.counter("workation.outbox.events", "outcome", "dead");
+        this.pruned = meterRegistry.counter("workation.outbox.events", "outcome", "pruned");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!retention.isZero()) {
+            scheduler.scheduleWithFixedDelay(this::pruneQuietly, 0, pruneInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        if (sinks.isEmpty()) {
+            log.warn("No workation event sinks configured; events accumulate in the outbox without a consumer{}",
+                    retention.isZero() ? "" : " and are pruned after " + retention);
+            return;
+        }
+        scheduler.scheduleWithFixedDelay(this::drainQuietly, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Dispatching workation events to {}", sinks.stream().map(sink -> sink.getClass().getSimpleName()).toList());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Deliver due events until the outbox is empty or an event has to wait for its retry; returns
+     * the number delivered. Runs one drain at a time.
+     */
+    public int drain() {
+        draining.lock();
+        try {
+            int total = 0;
+            while (true) {
+                List<WorkationOutboxEvent> batch = new ArrayList<>(batchSize);
+                List<Instant> due = new ArrayList<>(batchSize);
+                jdbcTemplate.query(SELECT_BATCH, rs -> {
+                    batch.add(new WorkationOutboxEvent(rs.getLong("id"),
+                            WorkationChange.Type.valueOf(rs.getString("event_type")), rs.getLong("workation_id"),
+                            rs.getString("payload"), rs.getTimestamp("created_at").toInstant(), rs.getInt("attempts")));
+                    due.add(rs.getTimestamp("next_attempt_at").toInstant());
+                }, batchSize);
+
+                Progress progress = deliver(batch, due);
+                total += progress.delivered();
+                // A short batch was the last one; a stop before its end means an event has to wait
+                if (progress.settled() < batchSize) {
+                    return total;
+                }
+            }
+        } finally {
+            draining.unlock();
+        }
+    }
+
+    /**
+     * Hand the batch to the sinks up to the first event that is not due or fails, then delete what
+     * was delivered.
+     */
+    private Progress deliver(List<WorkationOutboxEvent> batch, List<Instant> due) {
+        Instant now = Instant.now();
+        List<Object[]> deliveredIds = new ArrayList<>(batch.size());
+        int deadLettered = 0;
+        try {
+            for (int i = 0; i < batch.size(); i++) {
+                WorkationOutboxEvent event = batch.get(i);
+                if (due.get(i).isAfter(now)) {
+                    break;
+                }
+                try {
+                    for (WorkationEventSink sink : sinks) {
+                        sink.deliver(event);
+                    }
+                } catch (Exception e) {
+                    if (!failed(event, e)) {
+                        break;
+                    }
+                    // Dead: skipped, delivery goes on with the next event
+                    deadLettered++;
+                    continue;
+                }
+                deliveredIds.add(new Object[]{event.id()});
+            }
+        } finally {
+            if (!deliveredIds.isEmpty()) {
+                jdbcTemplate.batchUpdate(DELETE, deliveredIds);
+                delivered.increment(deliveredIds.size());
+            }
+        }
+        return new Progress(deliveredIds.size(), deliveredIds.size() + deadLettered);
+    }
+
+    /**
+     * Schedule the retry of a failed event, or mark it dead; returns whether it is dead.
+     */
+    private boolean failed(WorkationOutboxEvent event, Exception error) {
+        int attempts = event.attempts() + 1;
+        boolean exhausted = attempts >= maxAttempts;
+        Instant next = Instant.now().plus(backoff(attempts));
+        String message = String.valueOf(error.getMessage());
+        jdbcTemplate.update(RETRY, attempts, Timestamp.from(next),
+                message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message,
+                exhausted, event.id());
+        if (exhausted) {
+            dead.increment();
+            log.error("Workation event {} ({} of workation {}) failed {} times and is marked dead: {}",
+                    event.id(), event.type(), event.workationId(), attempts, message, error);
+        } else {
+            retried.increment();
+            log.warn("Workation event {} failed (attempt {} of {}), retrying at {}: {}",
+                    event.id(), attempts, maxAttempts, next, message);
+        }
+        return exhausted;
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    /**
+     * Events of a batch delivered, and settled (delivered or marked dead) before the drain stopped.
+     */
+    private record Progress(int delivered, int settled) {
+    }
+
+    /**
+     * Delete the events older than the retention that will never be delivered: dead ones, and all
+     * of them without a sink. Returns the number deleted; a zero retention keeps every event.
+     */
+    public int prune() {
+        if (retention.isZero()) {
+            return 0;
+        }
+        int count = jdbcTemplate.update(sinks.isEmpty() ? PRUNE : PRUNE_DEAD,
+                Timestamp.from(Instant.now().minus(retention)));
+        if (count > 0) {
+            pruned.increment(count);
+            log.info("Pruned {} workation outbox events older than {}", count, retention);
+        }
+        return count;
+    }
+
+    private void pruneQuietly() {
+        try {
+            prune();
+        } catch (RuntimeException e) {
+            log.warn("Workation outbox prune failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void drainQuietly() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            // Keep the schedule alive; the events stay in the table
+            log.warn("Workation outbox drain failed: {}", e.getMessage(), e);
+        }
+    }
+}
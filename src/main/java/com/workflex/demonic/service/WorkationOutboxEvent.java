@@ -0,0 +1,12 @@
+package com.workflex.demonic.service;
+
+import java.time.Instant;
+
+/**
+ * A workation change as stored in the outbox. {@code id} grows with every change and identifies the
+ * event across redeliveries, so sinks can drop duplicates. {@code payload} is the workation as
+ * committed ({@code WorkationResponseDto} JSON); null for deletes.
+ */
+public record WorkationOutboxEvent(long id, WorkationChange.Type type, long workationId, String payload,
+                                   Instant createdAt, int attempts) {
+}
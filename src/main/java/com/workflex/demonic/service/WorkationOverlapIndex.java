@@ -0,0 +1,196 @@
+package com.workflex.demonic.service;
+
+import com.workflex.demonic.exception.WorkationConflictException;
+import com.workflex.demonic.model.Workation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory interval index of workation dates: one {@link IntervalTree} per employee (by the
+ * normalized name) for the overlap check on create and update, and one over all workations for
+ * date-range queries. Trips are half-open {@code [start_date, end_date)}, so a trip may start on
+ * the day the previous one ends.
+ * <p>
+ * WorkationService reserves a trip's dates in the same step as the overlap check, so concurrent
+ * writers cannot both pass it. Changes take effect immediately and are undone if the surrounding
+ * transaction rolls back. The index is loaded from the table by {@link DataInitializer}; rows
+ * written past the service (CSV import, plain SQL) are picked up by {@link #rebuild()}.
+ */
+@Slf4j
+@Component
+public class WorkationOverlapIndex {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<String, IntervalTree> byEmployee = new HashMap<>();
+    private IntervalTree all = new IntervalTree();
+    private Map<Long, Entry> byId = new HashMap<>();
+
+    public WorkationOverlapIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Check the workation against the other trips of its employee and index its current dates,
+     * replacing what was indexed for its id.
+     *
+     * @throws WorkationConflictException when it overlaps another trip of the same employee
+     */
+    public void reserve(Workation workation) {
+        Entry entry = Entry.of(workation);
+        lock.writeLock().lock();
+        try {
+            if (entry != null) {
+                List<Long> conflicts = conflicts(entry.employee(), entry.interval().start(), entry.interval().end(),
+                        workation.getId());
+                if (!conflicts.isEmpty()) {
+                    throw new WorkationConflictException(workation.getEmployee(), conflicts);
+                }
+            }
+            Entry previous = replace(workation.getId(), entry);
+            RollbackLog.onRollback(this, () -> replace(workation.getId(), previous));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void release(Long id) {
+        lock.writeLock().lock();
+        try {
+            Entry previous = replace(id, null);
+            if (previous != null) {
+                RollbackLog.onRollback(this, () -> replace(id, previous));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the other trips of the workation's employee that its dates overlap.
+     */
+    public List<Long> conflicts(Workation workation) {
+        if (workation.getEmployee() == null || workation.getStart_date() == null || workation.getEnd_date() == null) {
+            return List.of();
+        }
+        return conflicts(workation.getEmployee(), workation.getStart_date().getTime(),
+                workation.getEnd_date().getTime(), workation.getId());
+    }
+
+    /**
+     * Ids of the trips of {@code employee} overlapping {@code [from, to)} (epoch millis), other than {@code excludeId}.
+     */
+    public List<Long> conflicts(String employee, long from, long to, Long excludeId) {
+        lock.readLock().lock();
+        try {
+            List<Long> ids = new ArrayList<>();
+            IntervalTree trips = byEmployee.get(Workation.normalize(employee));
+            if (trips != null) {
+                trips.overlapping(from, to, interval -> {
+                    if (excludeId == null || interval.id() != excludeId) {
+                        ids.add(interval.id());
+                    }
+                    return true;
+                });
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of up to {@code limit} trips overlapping {@code [from, to)} (epoch millis) in start date
+     * order, of one employee or of everyone when {@code employee} is null.
+     */
+    public List<Long> overlapping(String employee, long from, long to, int limit) {
+        lock.readLock().lock();
+        try {
+            IntervalTree trips = employee == null ? all : byEmployee.get(Workation.normalize(employee));
+            List<Long> ids = new ArrayList<>(Math.min(limit, 64));
+            if (trips != null) {
+                trips.overlapping(from, to, interval -> {
+                    ids.add(interval.id());
+                    return ids.size() < limit;
+                });
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reload the index from the workation table. The read runs under the write lock, so a trip
+     * reserved while the table is read is not dropped by swapping in the reloaded index.
+     */
+    public void rebuild() {
+        Map<String, IntervalTree> employees = new HashMap<>();
+        IntervalTree trips = new IntervalTree();
+        Map<Long, Entry> entries = new HashMap<>();
+        lock.writeLock().lock();
+        try {
+            jdbcTemplate.query("SELECT id, employee_search, start_date, end_date FROM workation " +
+                    "WHERE employee_search IS NOT NULL AND start_date IS NOT NULL AND end_date IS NOT NULL", rs -> {
+                Entry entry = new Entry(rs.getString(2), new IntervalTree.Interval(rs.getLong(1),
+                        rs.getTimestamp(3).getTime(), rs.getTimestamp(4).getTime()));
+                add(employees, trips, entries, entry);
+            });
+            byEmployee = employees;
+            all = trips;
+            byId = entries;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Rebuilt workation overlap index: {} trips of {} employees", entries.size(), employees.size());
+    }
+
+    private Entry replace(Long id, Entry entry) {
+        lock.writeLock().lock();
+        try {
+            Entry previous = byId.remove(id);
+            if (previous != null) {
+                all.remove(previous.interval());
+                IntervalTree trips = byEmployee.get(previous.employee());
+                trips.remove(previous.interval());
+                if (trips.isEmpty()) {
+                    byEmployee.remove(previous.employee());
+                }
+            }
+            if (entry != null) {
+                add(byEmployee, all, byId, entry);
+            }
+            return previous;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void add(Map<String, IntervalTree> employees, IntervalTree trips, Map<Long, Entry> entries,
+                            Entry entry) {
+        employees.computeIfAbsent(entry.employee(), key -> new IntervalTree()).insert(entry.interval());
+        trips.insert(entry.interval());
+        entries.put(entry.interval().id(), entry);
+    }
+
+    private record Entry(String employee, IntervalTree.Interval interval) {
+
+        static Entry of(Workation workation) {
+            if (workation.getId() == null || workation.getEmployee() == null
+                    || workation.getStart_date() == null || workation.getEnd_date() == null) {
+                return null;
+            }
+            return new Entry(Workation.normalize(workation.getEmployee()), new IntervalTree.Interval(
+                    workation.getId(), workation.getStart_date().getTime(), workation.getEnd_date().getTime()));
+        }
+    }
+}
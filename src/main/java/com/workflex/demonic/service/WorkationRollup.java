@@ -0,0 +1,211 @@
+package com.workflex.demonic.service;
+
+import com.workflex.demonic.dto.WorkationStatsDto;
+import com.workflex.demonic.model.Risk;
+import com.workflex.demonic.model.Workation;
+import com.workflex.demonic.model.WorkationRollupKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Incrementally maintained workation counts and total days per risk, country, destination and
+ * start month (table workation_rollup). Writers apply their deltas inside their own transaction,
+ * so the rollup commits or rolls back together with the rows it describes. Analytics group this
+ * small table instead of scanning workation.
+ */
+@Slf4j
+@Component
+public class WorkationRollup {
+
+    private static final String KEY_MATCHES = "r.risk = d.risk AND r.country = d.country " +
+            "AND r.country_dest = d.country_dest AND r.trip_month = d.trip_month";
+
+    private static final String MERGE_DELTA = "MERGE INTO workation_rollup r USING (%s) d ON " + KEY_MATCHES +
+            " WHEN MATCHED THEN UPDATE SET trip_count = r.trip_count + d.trip_count, total_days = r.total_days + d.total_days" +
+            " WHEN NOT MATCHED THEN INSERT (risk, country, country_dest, trip_month, trip_count, total_days)" +
+            " VALUES (d.risk, d.country, d.country_dest, d.trip_month, d.trip_count, d.total_days)";
+
+    // Only the groups a change emptied; a sweep of the whole table would scan it on every write
+    private static final String DELETE_EMPTY_GROUP = "DELETE FROM workation_rollup WHERE risk = ? AND country = ? " +
+            "AND country_dest = ? AND trip_month = ? AND trip_count <= 0";
+
+    private static final String SINGLE_DELTA = "SELECT CAST(? AS VARCHAR(255)) AS risk, CAST(? AS VARCHAR(255)) AS country, " +
+            "CAST(? AS VARCHAR(255)) AS country_dest, CAST(? AS VARCHAR(255)) AS trip_month, " +
+            "CAST(? AS BIGINT) AS trip_count, CAST(? AS BIGINT) AS total_days";
+
+    // Must derive the same keys as Contribution.of
+    private static final String KEYED_ROWS = "SELECT COALESCE(CAST(risk AS VARCHAR(255)), '') AS risk, " +
+            "COALESCE(country, '') AS country, COALESCE(country_dest, '') AS country_dest, " +
+            "COALESCE(FORMATDATETIME(start_date, 'yyyy-MM'), '') AS trip_month, days FROM workation";
+
+    private static final String GROUPED = "SELECT risk, country, country_dest, trip_month, %s COUNT(*) AS trip_count, " +
+            "%s SUM(days) AS total_days FROM (%s) k GROUP BY risk, country, country_dest, trip_month";
+
+    private static final Comparator<WorkationRollupKey> KEY_ORDER = Comparator.comparing(WorkationRollupKey::getRisk)
+            .thenComparing(WorkationRollupKey::getCountry)
+            .thenComparing(WorkationRollupKey::getCountry_dest)
+            .thenComparing(WorkationRollupKey::getTrip_month);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public WorkationRollup(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    public void added(Collection<Workation> workations) {
+        apply(workations.stream().map(Contribution::of).toList(), List.of());
+    }
+
+    public void removed(Workation workation) {
+        apply(List.of(), List.of(Contribution.of(workation)));
+    }
+
+    public void changed(Contribution before, Workation after) {
+        apply(List.of(Contribution.of(after)), List.of(before));
+    }
+
+    /**
+     * Apply contributions netted per key, one MERGE per key that actually changed. Keys are merged
+     * in a fixed order, so concurrent writers lock shared groups in the same order. Groups that lost
+     * trips are deleted when they are left empty.
+     */
+    public void apply(Collection<Contribution> added, Collection<Contribution> removed) {
+        Map<WorkationRollupKey, long[]> deltas = new TreeMap<>(KEY_ORDER);
+        added.forEach(c -> accumulate(deltas, c, 1));
+        removed.forEach(c -> accumulate(deltas, c, -1));
+
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        List<Object[]> shrunk = new ArrayList<>();
+        for (Entry<WorkationRollupKey, long[]> delta : deltas.entrySet()) {
+            long[] value = delta.getValue();
+            if (value[0] != 0 || value[1] != 0) {
+                WorkationRollupKey key = delta.getKey();
+                args.add(new Object[]{key.getRisk(), key.getCountry(), key.getCountry_dest(), key.getTrip_month(),
+                        value[0], value[1]});
+                if (value[0] < 0) {
+                    shrunk.add(new Object[]{key.getRisk(), key.getCountry(), key.getCountry_dest(), key.getTrip_month()});
+                }
+            }
+        }
+        if (args.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(MERGE_DELTA.formatted(SINGLE_DELTA), args);
+        if (!shrunk.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_EMPTY_GROUP, shrunk);
+        }
+    }
+
+    /**
+     * Subtract the given rows, read from workation, with a single statement. Call before deleting them.
+     */
+    public void removeIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        String rows = KEYED_ROWS + " WHERE id IN (:ids)";
+        namedJdbcTemplate.update(MERGE_DELTA.formatted(GROUPED.formatted("-", "-", rows)), Map.of("ids", ids));
+        // The rows still exist, so they name the groups they left
+        namedJdbcTemplate.update("DELETE FROM workation_rollup r WHERE r.trip_count <= 0 AND EXISTS (SELECT 1 FROM ("
+                + rows + ") d WHERE " + KEY_MATCHES + ")", Map.of("ids", ids));
+    }
+
+    /**
+     * Recompute the rollup from workation with one full GROUP BY, e.g. after rows were written with plain SQL.
+     */
+    public void rebuild() {
+        jdbcTemplate.update("DELETE FROM workation_rollup");
+        int groups = jdbcTemplate.update("INSERT INTO workation_rollup (risk, country, country_dest, trip_month, trip_count, total_days) "
+                + GROUPED.formatted("", "", KEYED_ROWS));
+        log.info("Rebuilt workation rollup: {} groups", groups);
+    }
+
+    public boolean isEmpty() {
+        return jdbcTemplate.queryForList("SELECT 1 FROM workation_rollup FETCH FIRST 1 ROWS ONLY", Integer.class).isEmpty();
+    }
+
+    /**
+     * Counts, total days and average duration per group of the given dimensions (all rows when empty).
+     */
+    public List<WorkationStatsDto> summarize(Collection<StatsDimension> groupBy) {
+        Set<StatsDimension> dimensions = Set.copyOf(groupBy);
+        String columns = dimensions.stream()
+                .sorted()
+                .map(StatsDimension::getColumn)
+                .collect(Collectors.joining(", "));
+
+        String sql = "SELECT " + (columns.isEmpty() ? "" : columns + ", ")
+                + "COALESCE(SUM(trip_count), 0) AS trip_count, COALESCE(SUM(total_days), 0) AS total_days FROM workation_rollup"
+                + (columns.isEmpty() ? "" : " GROUP BY " + columns + " HAVING SUM(trip_count) > 0 ORDER BY " + columns);
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> toStats(rs, dimensions));
+    }
+
+    private WorkationStatsDto toStats(ResultSet rs, Set<StatsDimension> dimensions) throws SQLException {
+        long count = rs.getLong("trip_count");
+        long totalDays = rs.getLong("total_days");
+        WorkationStatsDto stats = new WorkationStatsDto();
+        if (dimensions.contains(StatsDimension.RISK)) {
+            String risk = rs.getString("risk");
+            stats.setRisk(risk.isEmpty() ? null : Risk.valueOf(risk));
+        }
+        if (dimensions.contains(StatsDimension.COUNTRY)) {
+            stats.setCountry(rs.getString("country"));
+        }
+        if (dimensions.contains(StatsDimension.COUNTRY_DEST)) {
+            stats.setCountryDest(rs.getString("country_dest"));
+        }
+        if (dimensions.contains(StatsDimension.MONTH)) {
+            stats.setMonth(rs.getString("trip_month"));
+        }
+        stats.setCount(count);
+        stats.setTotalDays(totalDays);
+        stats.setAverageDays(count == 0 ? 0 : (double) totalDays / count);
+        return stats;
+    }
+
+    private static void accumulate(Map<WorkationRollupKey, long[]> deltas, Contribution contribution, int sign) {
+        long[] delta = deltas.computeIfAbsent(contribution.key(), key -> new long[2]);
+        delta[0] += sign;
+        delta[1] += (long) sign * contribution.days();
+    }
+
+    /**
+     * What one workation adds to the rollup. Capture it before modifying an entity.
+     */
+    public record Contribution(WorkationRollupKey key, int days) {
+
+        public static Contribution of(Workation workation) {
+            return new Contribution(new WorkationRollupKey(
+                    workation.getRisk() != null ? workation.getRisk().name() : "",
+                    workation.getCountry() != null ? workation.getCountry() : "",
+                    workation.getCountry_dest() != null ? workation.getCountry_dest() : "",
+                    workation.getStart_date() != null ? month(workation.getStart_date().getTime()) : ""
+            ), workation.getDays());
+        }
+
+        private static String month(long epochMillis) {
+            return YearMonth.from(LocalDate.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault())).toString();
+        }
+    }
+}
@@ -1,79 +1,576 @@
 package com.workflex.demonic.service;
 
+import com.workflex.demonic.dto.WorkationBudgetDto;
+import com.workflex.demonic.dto.WorkationResponseDto;
+import com.workflex.demonic.dto.WorkationStatsDto;
+import com.workflex.demonic.exception.WorkationBudgetExceededException;
+import com.workflex.demonic.exception.WorkationConflictException;
 import com.workflex.demonic.exception.WorkationNotFoundException;
+import com.workflex.demonic.exception.WorkationVersionMismatchException;
 import com.workflex.demonic.model.Risk;
 import com.workflex.demonic.model.Workation;
 import com.workflex.demonic.repository.WorkationRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reads run in read-only transactions (Hibernate flush mode MANUAL, no dirty-checking snapshots),
+ * opened only on a cache miss so cache hits never borrow a connection. Single-row mutations run
+ * in one write transaction each; batch mutations in one write transaction per chunk.
+ * Creates and updates are rejected with {@link WorkationConflictException} when the trip overlaps
+ * another trip of the same employee ({@link WorkationOverlapIndex}), and with
+ * {@link WorkationBudgetExceededException} when it takes the employee over the yearly limit of
+ * days abroad ({@link WorkationDayBudget}). Risk is always derived by {@link RiskEngine}.
+ * Rows carry a version checked on every update, so a concurrent change fails the later writer
+ * with an {@link org.springframework.dao.OptimisticLockingFailureException} instead of being lost.
+ * Committed changes are published to the {@link WorkationChangeFeed} and, in the same transaction,
+ * written to the {@link WorkationOutbox} for downstream systems.
+ * Every public method is timed by {@link WorkationMetrics}.
+ */
 @Service
 public class WorkationService {
 
+    private static final int MAX_OVERLAP_RESULTS = 1000;
+
     private final WorkationRepository repository;
+    private final WorkationCache cache;
+    private final WorkationRollup rollup;
+    private final WorkationOverlapIndex overlapIndex;
+    private final WorkationDayBudget dayBudget;
+    private final RiskEngine riskEngine;
+    private final WorkationMetrics metrics;
+    private final WorkationChangeFeed changes;
+    private final WorkationOutbox outbox;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int exportFetchSize;
+    private final int maxPageSize;
 
-    public WorkationService(WorkationRepository repository) {
+    public WorkationService(WorkationRepository repository,
+                            WorkationCache cache,
+                            WorkationRollup rollup,
+                            WorkationOverlapIndex overlapIndex,
+                            WorkationDayBudget dayBudget,
+                            RiskEngine riskEngine,
+                            WorkationMetrics metrics,
+                            WorkationChangeFeed changes,
+                            WorkationOutbox outbox,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.export.fetch-size:1000}") int exportFetchSize,
+                            @Value("${app.page.max-size:2000}") int maxPageSize) {
         this.repository = repository;
+        this.cache = cache;
+        this.rollup = rollup;
+        this.overlapIndex = overlapIndex;
+        this.dayBudget = dayBudget;
+        this.riskEngine = riskEngine;
+        this.metrics = metrics;
+        this.changes = changes;
+        this.outbox = outbox;
+        this.exportFetchSize = exportFetchSize;
+        this.maxPageSize = maxPageSize;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * List rows as {@link WorkationResponseDto} projections; no entities are loaded for read paths.
+     */
+    public Page<WorkationResponseDto> getAllWorkations(Pageable pageable, WorkationFilter filter) {
+        checkPageSize(pageable.getPageSize());
+        return metrics.time("list", filter, () -> cache.getQuery(filter, pageable,
+                () -> readOnly(() -> repository.findResponsePage(buildSpecification(filter), pageable))));
+    }
+
+    /**
+     * Keyset pagination: return up to {@code size} rows after the given cursor (or the first rows
+     * when the cursor is empty), ordered by {@code sortBy} and id. No COUNT query is run.
+     */
+    public Slice<WorkationResponseDto> getWorkationsAfter(
+            String cursor,
+            String sortBy,
+            Sort.Direction direction,
+            int size,
+            WorkationFilter filter
+    ) {
+        return metrics.time("cursor", filter, () -> findAfter(cursor, sortBy, direction, size, filter));
     }
 
-    public Page<Workation> getAllWorkations(
-            Pageable pageable,
-            String employee,
-            String country,
-            String countryDest,
-            Risk risk
+    private Slice<WorkationResponseDto> findAfter(
+            String cursor,
+            String sortBy,
+            Sort.Direction direction,
+            int size,
+            WorkationFilter filter
     ) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        checkPageSize(size);
+        Sort sort = WorkationCursor.sortFor(sortBy, direction);
+        Specification<Workation> spec = buildSpecification(filter);
+
+        if (cursor != null && !cursor.isEmpty()) {
+            WorkationCursor position = WorkationCursor.decode(cursor);
+            if (!position.matches(sortBy, direction)) {
+                throw new IllegalArgumentException("Cursor does not match the requested sort");
+            }
+            spec = spec.and(position.toSpecification());
+        }
+
+        Specification<Workation> query = spec;
+        return cache.getQuery(filter, List.of(cursor == null ? "" : cursor, sort, size),
+                () -> readOnly(() -> repository.findResponseSlice(query, sort, size)));
+    }
+
+    /**
+     * One page of rows, read from a forward-only cursor in one read-only transaction while the
+     * returned stream is consumed, so the page is never held in memory as a whole. Filter, page
+     * size and sort field are validated right away. Bypasses the cache. The total is counted after
+     * the rows, and only when the page itself does not show it.
+     */
+    public PageStream streamWorkations(Pageable pageable, WorkationFilter filter) {
+        checkPageSize(pageable.getPageSize());
+        // Checked up front: once rows are being written, a bad sort field can no longer become a 400
+        pageable.getSort().forEach(order -> WorkationCursor.requireSortable(order.getProperty()));
+        Specification<Workation> spec = buildSpecification(filter);
+        return sink -> metrics.time("list.stream", filter, () -> readOnly(() -> {
+            long[] rows = new long[1];
+            try (Stream<WorkationResponseDto> page = repository.streamResponses(spec, pageable, exportFetchSize)) {
+                page.forEach(row -> {
+                    sink.accept(row);
+                    rows[0]++;
+                });
+            }
+            // A short page, or an empty first one, shows the total without counting
+            if ((rows[0] > 0 && rows[0] < pageable.getPageSize()) || (pageable.getOffset() == 0 && rows[0] == 0)) {
+                return pageable.getOffset() + rows[0];
+            }
+            return repository.count(spec);
+        }));
+    }
+
+    private void checkPageSize(int size) {
+        if (size > maxPageSize) {
+            throw new IllegalArgumentException("Page size must be at most " + maxPageSize);
+        }
+    }
+
+    /**
+     * Hand every row matching the filter, ordered by id, to {@code sink} while it is read from a
+     * forward-only cursor in one read-only transaction. Bypasses the cache; memory use does not
+     * depend on the number of rows.
+     */
+    public void exportWorkations(WorkationFilter filter, Consumer<WorkationResponseDto> sink) {
+        metrics.time("export", filter, () -> readOnly(() -> {
+            try (Stream<WorkationResponseDto> rows = repository.streamResponses(
+                    buildSpecification(filter), Sort.by("id"), exportFetchSize)) {
+                rows.forEach(sink);
+            }
+            return null;
+        }));
+    }
+
+    /**
+     * Text filters compare against the lower-cased search columns, so EXACT and PREFIX
+     * matching can use their indexes instead of evaluating LOWER(...) on every row.
+     * The date window and day range are plain range predicates on indexed columns.
+     */
+    private Specification<Workation> buildSpecification(WorkationFilter filter) {
+        if (filter.getFrom() != null && filter.getTo() != null && filter.getTo().isBefore(filter.getFrom())) {
+            throw new IllegalArgumentException("'to' must not be before 'from'");
+        }
+        if (filter.getMinDays() != null && filter.getMaxDays() != null && filter.getMaxDays() < filter.getMinDays()) {
+            throw new IllegalArgumentException("'maxDays' must not be less than 'minDays'");
+        }
         Specification<Workation> spec = Specification.where(null);
+        SearchMode mode = filter.getMatch() != null ? filter.getMatch() : SearchMode.DEFAULT;
 
-        if (employee != null && !employee.isEmpty()) {
-            spec = spec.and((root, query, cb) ->
-                    cb.like(cb.lower(root.get("employee")), "%" + employee.toLowerCase() + "%"));
+        if (filter.getEmployee() != null && !filter.getEmployee().isBlank()) {
+            spec = spec.and(textMatches("employee_search", filter.getEmployee(), mode));
         }
 
-        if (country != null && !country.isEmpty()) {
-            spec = spec.and((root, query, cb) ->
-                    cb.like(cb.lower(root.get("country")), "%" + country.toLowerCase() + "%"));
+        if (filter.getCountry() != null && !filter.getCountry().isBlank()) {
+            spec = spec.and(textMatches("country_search", filter.getCountry(), mode));
         }
 
-        if (countryDest != null && !countryDest.isEmpty()) {
-            spec = spec.and((root, query, cb) ->
-                    cb.like(cb.lower(root.get("country_dest")), "%" + countryDest.toLowerCase() + "%"));
+        if (filter.getCountryDest() != null && !filter.getCountryDest().isBlank()) {
+            spec = spec.and(textMatches("country_dest_search", filter.getCountryDest(), mode));
         }
 
-        if (risk != null) {
+        if (filter.getRisk() != null) {
+            Risk risk = filter.getRisk();
             spec = spec.and((root, query, cb) ->
                     cb.equal(root.get("risk"), risk));
         }
 
-        return repository.findAll(spec, pageable);
+        // Abroad during the window: the trip ends after it starts and starts before it ends
+        if (filter.getFrom() != null) {
+            Date windowStart = new Date(filter.windowStart());
+            spec = spec.and((root, query, cb) -> cb.greaterThan(root.<Date>get("end_date"), windowStart));
+        }
+
+        if (filter.getTo() != null) {
+            Date windowEnd = new Date(filter.windowEnd());
+            spec = spec.and((root, query, cb) -> cb.lessThan(root.<Date>get("start_date"), windowEnd));
+        }
+
+        if (filter.getMinDays() != null) {
+            int minDays = filter.getMinDays();
+            spec = spec.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.<Integer>get("days"), minDays));
+        }
+
+        if (filter.getMaxDays() != null) {
+            int maxDays = filter.getMaxDays();
+            spec = spec.and((root, query, cb) -> cb.lessThanOrEqualTo(root.<Integer>get("days"), maxDays));
+        }
+
+        return spec;
+    }
+
+    private Specification<Workation> textMatches(String attribute, String value, SearchMode mode) {
+        String term = Workation.normalize(value);
+        return switch (mode) {
+            case EXACT -> (root, query, cb) -> cb.equal(root.get(attribute), term);
+            case PREFIX -> (root, query, cb) -> cb.like(root.get(attribute), escapeLike(term) + "%", '\\');
+            case CONTAINS -> (root, query, cb) -> cb.like(root.get(attribute), "%" + escapeLike(term) + "%", '\\');
+        };
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
     }
 
-    public Workation getWorkationById(Long id) {
-        return repository.findById(id)
-                .orElseThrow(() -> new WorkationNotFoundException(id));
+    public WorkationResponseDto getWorkationById(Long id) {
+        return metrics.time("get", () -> cache.getById(id, key -> readOnly(() -> repository.findResponseById(key))
+                .orElseThrow(() -> new WorkationNotFoundException(key))));
     }
 
+    /**
+     * Current version of a workation, taken from the cached response when there is one and
+     * otherwise read as a single column, so revalidating a client's copy loads no row.
+     */
+    public long getVersion(Long id) {
+        return metrics.time("version", () -> {
+            WorkationResponseDto cached = cache.peekById(id);
+            if (cached != null && cached.getVersion() != null) {
+                return cached.getVersion();
+            }
+            return readOnly(() -> repository.findVersionById(id))
+                    .orElseThrow(() -> new WorkationNotFoundException(id));
+        });
+    }
+
+    /**
+     * Validator of list and cursor results; see {@link WorkationCache#listTag()}.
+     */
+    public String getListTag() {
+        return cache.listTag();
+    }
+
+    /**
+     * Validator of a workation at {@code version}; see {@link WorkationCache#versionTag(long)}.
+     */
+    public String getVersionTag(long version) {
+        return cache.versionTag(version);
+    }
+
+    /**
+     * Up to {@code limit} trips overlapping the days {@code from} to {@code to} (inclusive), in start
+     * date order, of one employee or of everyone. Answered from the overlap index; only the matching
+     * rows are read from the database.
+     */
+    public List<WorkationResponseDto> findOverlapping(String employee, LocalDate from, LocalDate to, int limit) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("'to' must not be before 'from'");
+        }
+        if (limit < 1 || limit > MAX_OVERLAP_RESULTS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_OVERLAP_RESULTS);
+        }
+        String name = employee == null || employee.isBlank() ? null : employee;
+        return metrics.time("overlaps", () -> {
+            List<Long> ids = overlapIndex.overlapping(name, startOf(from), startOf(to.plusDays(1)), limit);
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            Map<Long, WorkationResponseDto> rows = readOnly(() -> repository.findResponsesByIds(ids)).stream()
+                    .collect(Collectors.toMap(WorkationResponseDto::getId, Function.identity()));
+            return ids.stream().map(rows::get).filter(Objects::nonNull).toList();
+        });
+    }
+
+    private static long startOf(LocalDate day) {
+        return day.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Days abroad counted against {@code year} for {@code employee}, from the running totals.
+     */
+    public WorkationBudgetDto getBudget(String employee, int year) {
+        return metrics.time("budget", () -> {
+            long used = dayBudget.usedDays(employee, year);
+            int max = dayBudget.getMaxDaysPerYear();
+            return new WorkationBudgetDto(employee, year, used, max, Math.max(0, max - used));
+        });
+    }
+
+    public List<WorkationStatsDto> getStatistics(Collection<StatsDimension> groupBy) {
+        return metrics.time("analytics", () -> readOnly(() -> rollup.summarize(groupBy)));
+    }
+
+    @Transactional
     public Workation createWorkation(Workation workation) {
-        return repository.save(workation);
+        return metrics.time("create", () -> {
+            Workation saved = repository.save(riskEngine.apply(workation));
+            overlapIndex.reserve(saved);
+            dayBudget.reserve(saved);
+            rollup.added(List.of(saved));
+            cache.evict(saved.getId(), WorkationCache.Snapshot.of(saved));
+            changes.created(saved);
+            outbox.created(saved);
+            return saved;
+        });
     }
 
+    @Transactional
     public Workation updateWorkation(Long id, Workation updatedWorkation) {
-        Workation workation = repository.findById(id)
-                .orElseThrow(() -> new WorkationNotFoundException(id));
-        
-        workation.setEmployee(updatedWorkation.getEmployee());
-        workation.setCountry(updatedWorkation.getCountry());
-        workation.setDays(updatedWorkation.getDays());
-        
-        return repository.save(workation);
+        return updateWorkation(id, updatedWorkation, null);
+    }
+
+    /**
+     * The loaded entity stays managed until commit, so the change is flushed by dirty checking
+     * without a merge (and its extra SELECT). The flush is conditional on the loaded version.
+     *
+     * @param requiredTag the version tag the client last saw (If-Match), or null to update any version
+     * @throws WorkationVersionMismatchException when the stored version has another tag than {@code requiredTag}
+     */
+    @Transactional
+    public Workation updateWorkation(Long id, Workation updatedWorkation, String requiredTag) {
+        return metrics.time("update", () -> {
+            Workation workation = repository.findById(id)
+                    .orElseThrow(() -> new WorkationNotFoundException(id));
+            if (requiredTag != null) {
+                String currentTag = cache.versionTag(workation.getVersion());
+                if (!requiredTag.equals(currentTag)) {
+                    throw new WorkationVersionMismatchException(id, workation.getVersion(), currentTag);
+                }
+            }
+            WorkationCache.Snapshot before = WorkationCache.Snapshot.of(workation);
+            WorkationRollup.Contribution contributed = WorkationRollup.Contribution.of(workation);
+
+            copyUpdatableFields(updatedWorkation, workation);
+            riskEngine.apply(workation);
+            overlapIndex.reserve(workation);
+            dayBudget.reserve(workation);
+
+            rollup.changed(contributed, workation);
+            cache.evict(id, before, WorkationCache.Snapshot.of(workation));
+            changes.updated(workation);
+            outbox.updated(workation);
+            return workation;
+        });
     }
 
+    @Transactional
     public void deleteWorkation(Long id) {
-        if (!repository.existsById(id)) {
-            throw new WorkationNotFoundException(id);
+        metrics.time("delete", () -> {
+            Workation workation = repository.findById(id)
+                    .orElseThrow(() -> new WorkationNotFoundException(id));
+            repository.delete(workation);
+            overlapIndex.release(id);
+            dayBudget.release(id);
+            rollup.removed(workation);
+            cache.evict(id, WorkationCache.Snapshot.of(workation));
+            changes.deleted(id);
+            outbox.deleted(id);
+        });
+    }
+
+    /**
+     * Create all workations in one transaction. Callers are expected to pass bounded chunks.
+     * Items overlapping another trip of their employee, including earlier items of the chunk, are
+     * reported as {@link WorkationConflictException}, items over the yearly day limit as
+     * {@link WorkationBudgetExceededException}. If the transaction fails, the items are retried
+     * one transaction each, so only the failing ones are reported as failed.
+     */
+    public List<BatchItem<Workation>> createWorkations(List<Workation> workations) {
+        return inTransaction("batch.create", workations, chunk -> {
+            List<BatchItem<Workation>> results = new ArrayList<>(chunk.size());
+            List<Workation> saved = new ArrayList<>(chunk.size());
+            for (Workation workation : chunk) {
+                // A retried item may still carry the id and version of its rolled-back attempt
+                workation.setId(null);
+                workation.setVersion(null);
+                List<Long> conflicts = overlapIndex.conflicts(workation);
+                if (!conflicts.isEmpty()) {
+                    results.add(BatchItem.failure(new WorkationConflictException(workation.getEmployee(), conflicts)));
+                    continue;
+                }
+                Optional<WorkationBudgetExceededException> overBudget = dayBudget.check(workation);
+                if (overBudget.isPresent()) {
+                    results.add(BatchItem.failure(overBudget.get()));
+                    continue;
+                }
+                Workation created = repository.save(riskEngine.apply(workation));
+                overlapIndex.reserve(created);
+                dayBudget.reserve(created);
+                cache.evict(created.getId(), WorkationCache.Snapshot.of(created));
+                changes.created(created);
+                outbox.created(created);
+                saved.add(created);
+                results.add(BatchItem.success(created));
+            }
+            rollup.added(saved);
+            return results;
+        });
+    }
+
+    /**
+     * Update all workations (matched by their id) in one transaction. Unknown ids are reported
+     * as {@link WorkationNotFoundException} without affecting the other items. If the transaction
+     * fails, the items are retried one transaction each.
+     */
+    public List<BatchItem<Workation>> updateWorkations(List<Workation> updates) {
+        return inTransaction("batch.update", updates, chunk -> {
+            Set<Long> ids = chunk.stream().map(Workation::getId).collect(Collectors.toSet());
+            Map<Long, Workation> existing = repository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Workation::getId, Function.identity()));
+
+            List<BatchItem<Workation>> results = new ArrayList<>(chunk.size());
+            List<WorkationRollup.Contribution> removed = new ArrayList<>();
+            List<WorkationRollup.Contribution> added = new ArrayList<>();
+            for (Workation update : chunk) {
+                Workation workation = existing.get(update.getId());
+                Workation candidate = workation == null ? null : updated(workation, update);
+                List<Long> conflicts = candidate == null ? List.of() : overlapIndex.conflicts(candidate);
+                Optional<WorkationBudgetExceededException> overBudget = candidate == null || !conflicts.isEmpty()
+                        ? Optional.empty()
+                        : dayBudget.check(candidate);
+                if (workation == null) {
+                    results.add(BatchItem.failure(new WorkationNotFoundException(update.getId())));
+                } else if (!conflicts.isEmpty()) {
+                    results.add(BatchItem.failure(new WorkationConflictException(update.getEmployee(), conflicts)));
+                } else if (overBudget.isPresent()) {
+                    results.add(BatchItem.failure(overBudget.get()));
+                } else {
+                    WorkationCache.Snapshot before = WorkationCache.Snapshot.of(workation);
+                    removed.add(WorkationRollup.Contribution.of(workation));
+                    copyUpdatableFields(update, workation);
+                    riskEngine.apply(workation);
+                    overlapIndex.reserve(workation);
+                    dayBudget.reserve(workation);
+                    added.add(WorkationRollup.Contribution.of(workation));
+                    cache.evict(workation.getId(), before, WorkationCache.Snapshot.of(workation));
+                    changes.updated(workation);
+                    outbox.updated(workation);
+                    results.add(BatchItem.success(workation));
+                }
+            }
+            rollup.apply(added, removed);
+            return results;
+        });
+    }
+
+    /**
+     * Delete all given ids in one transaction with a single bulk delete. Unknown ids are
+     * reported as {@link WorkationNotFoundException}. If the transaction fails, the ids are retried
+     * one transaction each.
+     */
+    public List<BatchItem<Long>> deleteWorkations(List<Long> ids) {
+        return inTransaction("batch.delete", ids, chunk -> {
+            Set<Long> existing = new HashSet<>(repository.findExistingIds(chunk));
+            if (!existing.isEmpty()) {
+                rollup.removeIds(existing);
+                repository.deleteAllByIdInBatch(existing);
+                existing.forEach(overlapIndex::release);
+                existing.forEach(dayBudget::release);
+                cache.evictAll(existing);
+                existing.forEach(changes::deleted);
+                existing.forEach(outbox::deleted);
+            }
+
+            List<BatchItem<Long>> results = new ArrayList<>(chunk.size());
+            for (Long id : chunk) {
+                if (existing.contains(id)) {
+                    results.add(BatchItem.success(id));
+                } else {
+                    results.add(BatchItem.failure(new WorkationNotFoundException(id)));
+                }
+            }
+            return results;
+        });
+    }
+
+    private <T> T readOnly(Supplier<T> query) {
+        return readOnlyTransaction.execute(status -> query.get());
+    }
+
+    /**
+     * Run the chunk in one write transaction. When it fails as a whole (e.g. a constraint violation
+     * at flush), everything was rolled back, so each item is redone in a transaction of its own and
+     * only the items that fail again are reported with the error.
+     */
+    private <I, T> List<BatchItem<T>> inTransaction(String operation, List<I> items,
+                                                    Function<List<I>, List<BatchItem<T>>> work) {
+        try {
+            return metrics.time(operation, () -> transactionTemplate.execute(status -> work.apply(items)));
+        } catch (RuntimeException e) {
+            if (items.size() == 1) {
+                return List.of(BatchItem.failure(e));
+            }
+            List<BatchItem<T>> results = new ArrayList<>(items.size());
+            for (I item : items) {
+                results.addAll(inTransaction(operation, List.of(item), work));
+            }
+            return results;
         }
-        repository.deleteById(id);
+    }
+
+    /**
+     * The interval- and budget-relevant state {@code target} would have after the update, without modifying the managed entity.
+     */
+    private Workation updated(Workation target, Workation update) {
+        Workation candidate = new Workation();
+        candidate.setId(target.getId());
+        copyUpdatableFields(update, candidate);
+        return candidate;
+    }
+
+    /**
+     * Everything a client sends except the risk, which {@link RiskEngine} derives from these fields.
+     */
+    private void copyUpdatableFields(Workation source, Workation target) {
+        target.setEmployee(source.getEmployee());
+        target.setCountry(source.getCountry());
+        target.setCountry_dest(source.getCountry_dest());
+        target.setStart_date(source.getStart_date());
+        target.setEnd_date(source.getEnd_date());
+        target.setDays(source.getDays());
     }
 }
@@ -0,0 +1,32 @@
+-- Schema as previously generated by Hibernate (ddl-auto=update)
+
+CREATE SEQUENCE workation_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE workation (
+    id                  BIGINT       NOT NULL PRIMARY KEY,
+    employee            VARCHAR(255),
+    country             VARCHAR(255),
+    country_dest        VARCHAR(255),
+    start_date          TIMESTAMP(6),
+    end_date            TIMESTAMP(6),
+    days                INTEGER      NOT NULL,
+    risk                VARCHAR(255),
+    employee_search     VARCHAR(255),
+    country_search      VARCHAR(255),
+    country_dest_search VARCHAR(255)
+);
+
+CREATE INDEX idx_workation_employee_search ON workation (employee_search);
+CREATE INDEX idx_workation_country_search ON workation (country_search);
+CREATE INDEX idx_workation_country_dest_search ON workation (country_dest_search);
+CREATE INDEX idx_workation_risk ON workation (risk);
+
+CREATE TABLE workation_rollup (
+    risk         VARCHAR(255) NOT NULL,
+    country      VARCHAR(255) NOT NULL,
+    country_dest VARCHAR(255) NOT NULL,
+    trip_month   VARCHAR(255) NOT NULL,
+    trip_count   BIGINT       NOT NULL,
+    total_days   BIGINT       NOT NULL,
+    PRIMARY KEY (risk, country, country_dest, trip_month)
+);
@@ -0,0 +1,7 @@
+-- Date window and trip length filters. A window matches trips with start_date < window end and
+-- end_date > window start; each composite index serves one bound as a range scan and checks the
+-- other from the index entry, so the planner can start from whichever bound is more selective.
+
+CREATE INDEX idx_workation_start_end ON workation (start_date, end_date);
+CREATE INDEX idx_workation_end_start ON workation (end_date, start_date);
+CREATE INDEX idx_workation_days ON workation (days);
@@ -0,0 +1,5 @@
+-- Row version for optimistic locking and ETags, and the time of the last change for Last-Modified.
+-- Existing rows, and rows inserted with plain SQL, start at version 0.
+
+ALTER TABLE workation ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE workation ADD COLUMN last_modified TIMESTAMP(6) DEFAULT LOCALTIMESTAMP NOT NULL;
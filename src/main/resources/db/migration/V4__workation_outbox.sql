@@ -0,0 +1,17 @@
+-- Transactional outbox: one row per workation change, inserted in the transaction of the change and
+-- deleted once WorkationOutboxDispatcher has handed it to every sink. Rows are delivered in id order;
+-- a dead row has used up its retries and is kept for inspection.
+
+CREATE TABLE workation_outbox (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_type      VARCHAR(16)   NOT NULL,
+    workation_id    BIGINT        NOT NULL,
+    payload         VARCHAR(4000),
+    created_at      TIMESTAMP(6)  NOT NULL,
+    attempts        INT           DEFAULT 0 NOT NULL,
+    next_attempt_at TIMESTAMP(6)  NOT NULL,
+    last_error      VARCHAR(1000),
+    dead            BOOLEAN       DEFAULT FALSE NOT NULL
+);
+
+CREATE INDEX idx_workation_outbox_pending ON workation_outbox (dead, id);
@@ -0,0 +1,38 @@
+-- Schemas created by Hibernate (ddl-auto=update) before the migrations existed are baselined at version 1
+-- (spring.flyway.baseline-on-migrate) and may predate parts of V1. Add what they lack; on schemas created
+-- by V1 every statement is a no-op.
+
+-- Ids used to be IDENTITY-generated: restart the pooled sequence past the highest existing id so pooled-lo
+-- blocks never collide with existing rows. GREATEST keeps an aligned sequence from moving back.
+CREATE SEQUENCE IF NOT EXISTS workation_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE workation_seq RESTART WITH (
+    SELECT GREATEST(COALESCE(MAX(id), 0) + 1,
+                    (SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'WORKATION_SEQ'))
+    FROM workation);
+
+-- Normalized search columns, filled for rows written before they existed
+ALTER TABLE workation ADD COLUMN IF NOT EXISTS employee_search VARCHAR(255);
+ALTER TABLE workation ADD COLUMN IF NOT EXISTS country_search VARCHAR(255);
+ALTER TABLE workation ADD COLUMN IF NOT EXISTS country_dest_search VARCHAR(255);
+
+UPDATE workation
+SET employee_search     = LOWER(TRIM(employee)),
+    country_search      = LOWER(TRIM(country)),
+    country_dest_search = LOWER(TRIM(country_dest))
+WHERE employee_search IS NULL AND employee IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_workation_employee_search ON workation (employee_search);
+CREATE INDEX IF NOT EXISTS idx_workation_country_search ON workation (country_search);
+CREATE INDEX IF NOT EXISTS idx_workation_country_dest_search ON workation (country_dest_search);
+CREATE INDEX IF NOT EXISTS idx_workation_risk ON workation (risk);
+
+-- Filled by DataInitializer, which rebuilds an empty rollup of a populated store
+CREATE TABLE IF NOT EXISTS workation_rollup (
+    risk         VARCHAR(255) NOT NULL,
+    country      VARCHAR(255) NOT NULL,
+    country_dest VARCHAR(255) NOT NULL,
+    trip_month   VARCHAR(255) NOT NULL,
+    trip_count   BIGINT       NOT NULL,
+    total_days   BIGINT       NOT NULL,
+    PRIMARY KEY (risk, country, country_dest, trip_month)
+);
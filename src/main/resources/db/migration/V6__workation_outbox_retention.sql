@@ -0,0 +1,2 @@
+-- WorkationOutboxDispatcher prunes events by age
+CREATE INDEX IF NOT EXISTS idx_workation_outbox_created ON workation_outbox (created_at);
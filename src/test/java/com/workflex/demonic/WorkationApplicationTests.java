@@ -5,6 +5,7 @@ import com.workflex.demonic.dto.WorkationRequestDto;
 import com.workflex.demonic.model.Risk;
 import com.workflex.demonic.model.Workation;
 import com.workflex.demonic.repository.WorkationRepository;
+import com.workflex.demonic.service.WorkationCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,7 +25,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@SpringBootTest
+@SpringBootTest(properties = "app.csv.import.enabled=false")
 @AutoConfigureMockMvc
 @Transactional
 class WorkationApplicationTests {
@@ -38,12 +39,17 @@ class WorkationApplicationTests {
     @Autowired
     private WorkationRepository workationRepository;
 
+    @Autowired
+    private WorkationCache workationCache;
+
     private SimpleDateFormat dateFormat;
 
     @BeforeEach
     void setUp() {
         dateFormat = new SimpleDateFormat("yyyy-MM-dd");
         workationRepository.deleteAll();
+        // Test data is written straight through the repository, bypassing cache eviction
+        workationCache.clear();
     }
 
     // ==================== GET ALL WORKATIONS ====================
@@ -139,6 +145,143 @@ class WorkationApplicationTests {
                 .andExpect(jsonPath("$.content[0].risk").value("HIGH_RISK"));
     }
 
+    @Test
+    void testGetAllWorkations_CursorMode() throws Exception {
+        // Given - duplicate sort values exercise the id tie-breaker
+        createTestWorkation("Bob", "USA", "Canada", 30);
+        createTestWorkation("Alice", "USA", "France", 40);
+        createTestWorkation("Bob", "USA", "Italy", 50);
+        createTestWorkation("Carol", "USA", "Spain", 60);
+        createTestWorkation("Dave", "UK", "Spain", 70);
+
+        // When & Then - first page
+        MvcResult first = mockMvc.perform(get("/api/v1/workations")
+                        .param("cursor", "")
+                        .param("size", "2")
+                        .param("sortBy", "employee")
+                        .param("country", "USA"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].employee").value("Alice"))
+                .andExpect(jsonPath("$.content[1].employee").value("Bob"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andReturn();
+        String cursor = objectMapper.readTree(first.getResponse().getContentAsString()).get("nextCursor").asText();
+
+        // Second (last) page
+        mockMvc.perform(get("/api/v1/workations")
+                        .param("cursor", cursor)
+                        .param("size", "2")
+                        .param("sortBy", "employee")
+                        .param("country", "USA"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].employee").value("Bob"))
+                .andExpect(jsonPath("$.content[0].countryDest").value("Italy"))
+                .andExpect(jsonPath("$.content[1].employee").value("Carol"))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        // A cursor cannot be reused with a different sort
+        mockMvc.perform(get("/api/v1/workations")
+                        .param("cursor", cursor)
+                        .param("sortBy", "days"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetAllWorkations_TextMatchModes() throws Exception {
+        // Given
+        createTestWorkation("Alice Johnson", "United States", "France", 45);
+        createTestWorkation("Bob Alice", "United Kingdom", "Spain", 60);
+        createTestWorkation("Alicia Keys", "Canada", "Mexico", 30);
+
+        // Substring matching is the default and ignores case and surrounding whitespace
+        mockMvc.perform(get("/api/v1/workations")
+                        .param("employee", " ALICE "))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)));
+
+        mockMvc.perform(get("/api/v1/workations")
+                        .param("employee", "johnson"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].employee").value("Alice Johnson"));
+
+        mockMvc.perform(get("/api/v1/workations")
+                        .param("employee", "alice")
+                        .param("match", "PREFIX"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].employee").value("Alice Johnson"));
+
+        mockMvc.perform(get("/api/v1/workations")
+                        .param("country", "united kingdom")
+                        .param("match", "EXACT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].employee").value("Bob Alice"));
+
+        // LIKE wildcards in the search term are matched literally
+        mockMvc.perform(get("/api/v1/workations")
+                        .param("employee", "%"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(0)));
+    }
+
+    @Test
+    void testGetAllWorkations_DateWindowAndDaysFilters() throws Exception {
+        // Given - trips end on the day they are back, so [start, end) is the time abroad
+        createTestWorkation("Early Trip", "Germany", "Spain", "2025-01-10", "2025-02-01", 22);
+        createTestWorkation("March Trip", "Germany", "Italy", "2025-03-01", "2025-03-11", 10);
+        createTestWorkation("Long Trip", "Germany", "Portugal", "2025-02-15", "2025-06-15", 120);
+
+        // Abroad on any day of the window
+        mockMvc.perform(get("/api/v1/workations")
+                        .param("from", "2025-03-05")
+                        .param("to", "2025-03-06")
+                        .param("sortBy", "employee"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].employee").value("Long Trip"))
+                .andExpect(jsonPath("$.content[1].employee").value("March Trip"));
+
+        // The return day is not spent abroad; the window is inclusive of 'to'
+        mockMvc.perform(get("/api/v1/workations")
+                        .param("from", "2025-02-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)));
+        mockMvc.perform(get("/api/v1/workations")
+                        .param("to", "2025-02-15")
+                        .param("sortBy", "employee"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].employee").value("Early Trip"));
+
+        // Trip length, combined with the window
+        mockMvc.perform(get("/api/v1/workations")
+                        .param("minDays", "10")
+                        .param("maxDays", "30")
+                        .param("from", "2025-02-20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].employee").value("March Trip"));
+
+        // Inverted ranges are rejected
+        mockMvc.perform(get("/api/v1/workations")
+                        .param("from", "2025-03-06")
+                        .param("to", "2025-03-05"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/workations")
+                        .param("minDays", "30")
+                        .param("maxDays", "10"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testGetAllWorkations_EmptyResult() throws Exception {
         // When & Then
@@ -308,6 +451,135 @@ class WorkationApplicationTests {
                 .andExpect(status().isNotFound());
     }
 
+    // ==================== BATCH OPERATIONS ====================
+
+    @Test
+    void testCreateWorkationsBatch_ReportsPerItemResults() throws Exception {
+        // Given - second item fails validation
+        WorkationRequestDto valid = createWorkationRequest(
+                "Batch One", "France", "Italy",
+                "2025-06-01", "2025-08-15", 75, Risk.LOW_RISK);
+        WorkationRequestDto invalid = createWorkationRequest(
+                "", "France", "Italy",
+                "2025-06-01", "2025-08-15", 75, Risk.LOW_RISK);
+        WorkationRequestDto other = createWorkationRequest(
+                "Batch Two", "France", "Italy",
+                "2025-06-01", "2025-08-15", 75, Risk.LOW_RISK);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/workations/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new WorkationRequestDto[]{valid, invalid, other})))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].status").value(201))
+                .andExpect(jsonPath("$.results[0].workation.employee").value("Batch One"))
+                .andExpect(jsonPath("$.results[1].status").value(400))
+                .andExpect(jsonPath("$.results[1].error.error").value("Validation Failed"))
+                .andExpect(jsonPath("$.results[1].error.details", hasSize(greaterThan(0))))
+                .andExpect(jsonPath("$.results[2].index").value(2));
+
+        assertEquals(2, workationRepository.count());
+    }
+
+    @Test
+    void testCreateWorkationsBatch_Ndjson() throws Exception {
+        // Given
+        WorkationRequestDto first = createWorkationRequest(
+                "Ndjson One", "France", "Italy",
+                "2025-06-01", "2025-08-15", 75, Risk.LOW_RISK);
+        WorkationRequestDto second = createWorkationRequest(
+                "Ndjson Two", "Spain", "Greece",
+                "2025-06-01", "2025-06-11", 10, Risk.NO_RISK);
+        String body = objectMapper.writeValueAsString(first) + "\n" + objectMapper.writeValueAsString(second) + "\n";
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/workations/batch")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.results[1].workation.employee").value("Ndjson Two"));
+    }
+
+    @Test
+    void testUpdateAndDeleteWorkationsBatch() throws Exception {
+        // Given
+        Workation existing = createTestWorkation("Before Update", "USA", "Canada", 50);
+
+        String updates = "[{\"id\": " + existing.getId() + ", \"employee\": \"After Update\", \"country\": \"USA\", "
+                + "\"countryDest\": \"Canada\", \"startDate\": \"2025-03-01\", \"endDate\": \"2025-05-15\", "
+                + "\"days\": 60, \"risk\": \"LOW_RISK\"},"
+                + "{\"id\": 99999, \"employee\": \"Missing\", \"country\": \"USA\", "
+                + "\"countryDest\": \"Canada\", \"startDate\": \"2025-03-01\", \"endDate\": \"2025-05-15\", "
+                + "\"days\": 60, \"risk\": \"LOW_RISK\"}]";
+
+        // When & Then - update
+        mockMvc.perform(put("/api/v1/workations/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(updates))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].status").value(200))
+                .andExpect(jsonPath("$.results[0].workation.employee").value("After Update"))
+                .andExpect(jsonPath("$.results[1].status").value(404))
+                .andExpect(jsonPath("$.results[1].id").value(99999));
+
+        // Delete
+        mockMvc.perform(delete("/api/v1/workations/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + existing.getId() + ", 99999]"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.results[0].status").value(204))
+                .andExpect(jsonPath("$.results[1].status").value(404));
+
+        assertFalse(workationRepository.existsById(existing.getId()));
+    }
+
+    // ==================== CACHING ====================
+
+    @Test
+    void testListCache_EvictsOnlyMatchingQueries() throws Exception {
+        // Given - a cached list result
+        createTestWorkation("Cached One", "USA", "Canada", 30);
+        mockMvc.perform(get("/api/v1/workations").param("country", "USA"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)));
+
+        // A row written behind the cache's back stays invisible...
+        createTestWorkation("Hidden", "USA", "Mexico", 40);
+
+        // ...and a change that cannot match the filter leaves the cached result in place
+        mockMvc.perform(post("/api/v1/workations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createWorkationRequest(
+                                "Elsewhere", "Germany", "Spain", "2025-06-01", "2025-06-11", 10, Risk.NO_RISK))))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/v1/workations").param("country", "USA"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)));
+
+        // A matching change evicts it
+        mockMvc.perform(post("/api/v1/workations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createWorkationRequest(
+                                "Cached Two", "USA", "Spain", "2025-06-01", "2025-06-11", 10, Risk.NO_RISK))))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/v1/workations").param("country", "USA"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(3)));
+
+        // Hit/miss metrics are exposed through Actuator
+        mockMvc.perform(get("/actuator/metrics/cache.gets").param("tag", "cache:workations.queries"))
+                .andExpect(status().isOk());
+    }
+
     // ==================== COMPLEX SCENARIOS ====================
 
     @Test
@@ -377,13 +649,18 @@ class WorkationApplicationTests {
     // ==================== HELPER METHODS ====================
 
     private Workation createTestWorkation(String employee, String country, String countryDest, int days) {
+        return createTestWorkation(employee, country, countryDest, "2025-03-01", "2025-05-15", days);
+    }
+
+    private Workation createTestWorkation(String employee, String country, String countryDest,
+                                          String startDate, String endDate, int days) {
         try {
             Workation workation = new Workation();
             workation.setEmployee(employee);
             workation.setCountry(country);
             workation.setCountry_dest(countryDest);
-            workation.setStart_date(dateFormat.parse("2025-03-01"));
-            workation.setEnd_date(dateFormat.parse("2025-05-15"));
+            workation.setStart_date(dateFormat.parse(startDate));
+            workation.setEnd_date(dateFormat.parse(endDate));
             workation.setDays(days);
 
             // Set risk based on days
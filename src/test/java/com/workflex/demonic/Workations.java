@@ -0,0 +1,43 @@
+package com.workflex.demonic;
+
+import com.workflex.demonic.dto.WorkationRequestDto;
+import com.workflex.demonic.model.Risk;
+import com.workflex.demonic.model.Workation;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * Test fixtures: trips from Germany to Spain without risk, for {@code days} days from {@code start}.
+ */
+public final class Workations {
+
+    private Workations() {
+    }
+
+    public static Workation workation(String employee, LocalDate start, int days) {
+        Workation workation = new Workation();
+        workation.setEmployee(employee);
+        workation.setCountry("Germany");
+        workation.setCountry_dest("Spain");
+        workation.setStart_date(date(start));
+        workation.setEnd_date(date(start.plusDays(days)));
+        workation.setDays(days);
+        workation.setRisk(Risk.NO_RISK);
+        return workation;
+    }
+
+    /**
+     * @param start first day, ISO formatted
+     * @param end   day after the last one, ISO formatted
+     */
+    public static WorkationRequestDto request(String employee, String start, String end, int days) {
+        return new WorkationRequestDto(employee, "Germany", "Spain",
+                date(LocalDate.parse(start)), date(LocalDate.parse(end)), days, Risk.NO_RISK);
+    }
+
+    public static Date date(LocalDate day) {
+        return Date.from(day.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
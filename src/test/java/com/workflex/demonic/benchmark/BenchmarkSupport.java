@@ -0,0 +1,135 @@
+package com.workflex.demonic.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Shared helpers for the {@code @Tag("benchmark")} tests: synthetic data seeding and latency sampling.
+ * Row counts come from {@code -Dbenchmark.rows} (default 1,000,000).
+ */
+final class BenchmarkSupport {
+
+    static final String[] FIRST_NAMES = {"Sarah", "Michael", "Emma", "James", "Olivia", "Liam", "Sophia", "Noah",
+            "Isabella", "Lucas", "Mia", "Ethan", "Amelia", "Mason", "Harper", "Logan"};
+    static final String[] LAST_NAMES = {"Johnson", "Chen", "Rodriguez", "Wilson", "Garcia", "Miller", "Davis",
+            "Martinez", "Lopez", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin", "Lee"};
+    static final String[] COUNTRIES = {"United States", "Germany", "Spain", "Portugal", "France", "Italy", "Japan",
+            "Singapore", "Mexico", "Thailand", "United Kingdom", "Canada", "Brazil", "Greece", "Croatia", "Australia"};
+
+    private static final String INSERT_SQL =
+            "INSERT INTO workation (id, employee, country, country_dest, start_date, end_date, days, risk, " +
+            "employee_search, country_search, country_dest_search) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int SEED_BATCH = 10_000;
+    private static final LocalDate FIRST_START = LocalDate.of(2024, 1, 1);
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private BenchmarkSupport() {
+    }
+
+    static int rows() {
+        return Integer.getInteger("benchmark.rows", 1_000_000);
+    }
+
+    /**
+     * Replace the workation table contents with {@code rows} deterministic synthetic rows.
+     */
+    static void seed(JdbcTemplate jdbcTemplate, int rows) {
+        jdbcTemplate.execute("TRUNCATE TABLE workation");
+        Random random = new Random(42);
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH);
+
+        for (int id = 1; id <= rows; id++) {
+            String employee = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + id;
+            String country = COUNTRIES[random.nextInt(COUNTRIES.length)];
+            String countryDest = COUNTRIES[random.nextInt(COUNTRIES.length)];
+            LocalDate start = FIRST_START.plusDays(random.nextInt(3 * 365));
+            int days = 1 + random.nextInt(365);
+            String risk = days <= 50 ? "NO_RISK" : days <= 100 ? "LOW_RISK" : "HIGH_RISK";
+
+            batch.add(new Object[]{id, employee, country, countryDest,
+                    Timestamp.valueOf(start.atStartOfDay()), Timestamp.valueOf(start.plusDays(days).atStartOfDay()),
+                    days, risk, lower(employee), lower(country), lower(countryDest)});
+            if (batch.size() == SEED_BATCH) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+        }
+        jdbcTemplate.execute("ALTER SEQUENCE workation_seq RESTART WITH " + (rows + 1));
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    /**
+     * Run {@code operation} for warm-up, then sample its latency and the bytes it allocates
+     * on the calling thread.
+     */
+    static Latency measure(int warmups, int iterations, Supplier<?> operation) {
+        for (int i = 0; i < warmups; i++) {
+            operation.get();
+        }
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = THREADS.getThreadAllocatedBytes(threadId);
+        long[] samples = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long started = System.nanoTime();
+            operation.get();
+            samples[i] = System.nanoTime() - started;
+        }
+        long allocated = THREADS.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Latency(samples, allocated / iterations);
+    }
+
+    static void printHeader(String title) {
+        System.out.printf("%n=== %s (%,d rows) ===%n", title, rows());
+        System.out.printf("%-48s %10s %10s %10s %12s%n", "case", "mean ms", "p50 ms", "p95 ms", "alloc KB/op");
+    }
+
+    static void printRow(String name, Latency latency) {
+        System.out.printf("%-48s %10.3f %10.3f %10.3f %12.1f%n", name, latency.meanMillis(),
+                latency.percentileMillis(50), latency.percentileMillis(95), latency.allocatedBytesPerOp() / 1024.0);
+    }
+
+    static void printLoadHeader(String title, int clients) {
+        System.out.printf("%n=== %s (%,d rows, %d concurrent clients) ===%n", title, rows(), clients);
+        System.out.printf("%-32s %12s %10s %10s %10s %8s%n", "mode", "req/s", "mean ms", "p50 ms", "p99 ms", "errors");
+    }
+
+    static void printLoadRow(String name, double throughput, Latency latency, long errors) {
+        System.out.printf("%-32s %12.1f %10.3f %10.3f %10.3f %8d%n", name, throughput, latency.meanMillis(),
+                latency.percentileMillis(50), latency.percentileMillis(99), errors);
+    }
+
+    private static String lower(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    record Latency(long[] samples, long allocatedBytesPerOp) {
+
+        Latency {
+            samples = samples.clone();
+            Arrays.sort(samples);
+        }
+
+        double meanMillis() {
+            return Arrays.stream(samples).average().orElse(0) / 1_000_000.0;
+        }
+
+        double percentileMillis(int percentile) {
+            int index = (int) Math.ceil(percentile / 100.0 * samples.length) - 1;
+            return samples[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.workflex.demonic.benchmark;
+
+import com.workflex.demonic.WorkationApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Throughput and latency of uncached filtered list requests over HTTP with requests served on
+ * Tomcat's platform-thread pool versus on virtual threads ({@code spring.threads.virtual.enabled}).
+ * Each mode runs in its own application instance with the same connection pool.
+ * Run with {@code ./mvnw test -Pbenchmark -Dtest=ExecutionModeLoadBenchmark -Dbenchmark.rows=100000}.
+ */
+@Tag("benchmark")
+class ExecutionModeLoadBenchmark {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 400);
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final Duration RUN = Duration.ofSeconds(20);
+    private static final String[] COUNTRIES = {"germany", "spain", "croatia", "japan", "brazil", "canada"};
+
+    @Test
+    void platformVersusVirtualThreads() throws Exception {
+        BenchmarkSupport.printLoadHeader("GET /api/v1/workations?country=...", CLIENTS);
+        for (boolean virtual : new boolean[]{false, true}) {
+            try (ConfigurableApplicationContext context = start(virtual)) {
+                BenchmarkSupport.seed(context.getBean(JdbcTemplate.class), BenchmarkSupport.rows());
+                int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+
+                drive(port, WARMUP);
+                LoadResult result = drive(port, RUN);
+                BenchmarkSupport.printLoadRow(virtual ? "virtual threads" : "platform threads",
+                        result.requests() / (double) RUN.toSeconds(), result.latency(), result.errors());
+            }
+        }
+    }
+
+    private ConfigurableApplicationContext start(boolean virtual) {
+        return new SpringApplicationBuilder(WorkationApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "spring.datasource.url=jdbc:h2:mem:load-" + (virtual ? "virtual" : "platform") + ";DB_CLOSE_DELAY=-1",
+                        "app.csv.import.enabled=false",
+                        "app.cache.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+    }
+
+    /**
+     * Closed-loop load: every client sends its next request as soon as the previous one completes.
+     */
+    private LoadResult drive(int port, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+        List<Future<long[]>> clients = new ArrayList<>(CLIENTS);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder().executor(executor).build()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.add(executor.submit(() -> {
+                    long[] samples = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        String country = COUNTRIES[ThreadLocalRandom.current().nextInt(COUNTRIES.length)];
+                        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port
+                                + "/api/v1/workations?match=EXACT&country=" + country
+                                + "&page=" + ThreadLocalRandom.current().nextInt(50))).build();
+                        long started = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        if (count == samples.length) {
+                            samples = Arrays.copyOf(samples, count * 2);
+                        }
+                        samples[count++] = System.nanoTime() - started;
+                    }
+                    return Arrays.copyOf(samples, count);
+                }));
+            }
+
+            List<long[]> perClient = new ArrayList<>(CLIENTS);
+            for (Future<long[]> client : clients) {
+                perClient.add(client.get());
+            }
+            long[] all = perClient.stream().flatMapToLong(Arrays::stream).toArray();
+            return new LoadResult(all.length, new BenchmarkSupport.Latency(all, 0), errors.get());
+        }
+    }
+
+    private record LoadResult(long requests, BenchmarkSupport.Latency latency, long errors) {
+    }
+}
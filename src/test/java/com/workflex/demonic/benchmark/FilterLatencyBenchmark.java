@@ -0,0 +1,129 @@
+package com.workflex.demonic.benchmark;
+
+import com.workflex.demonic.service.SearchMode;
+import com.workflex.demonic.service.WorkationFilter;
+import com.workflex.demonic.service.WorkationService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Filtered list latency: the previous LOWER(column) LIKE '%term%' filter (replayed as SQL) against
+ * the indexed prefix/exact matching on the normalized search columns, and the date window and trip
+ * length filters with and without their range indexes. The query cache is disabled so every
+ * sample runs the queries.
+ * Run with {@code ./mvnw test -Pbenchmark -Dtest=FilterLatencyBenchmark}.
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "app.csv.import.enabled=false",
+        "app.cache.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:filter-benchmark;DB_CLOSE_DELAY=-1"
+})
+class FilterLatencyBenchmark {
+
+    private static final int WARMUPS = 5;
+    private static final int ITERATIONS = 20;
+    private static final String LEGACY_SELECT =
+            "SELECT * FROM workation WHERE LOWER(%s) LIKE ? ORDER BY id OFFSET 0 ROWS FETCH FIRST 10 ROWS ONLY";
+    private static final String LEGACY_COUNT = "SELECT COUNT(*) FROM workation WHERE LOWER(%s) LIKE ?";
+    private static final String[] RANGE_INDEXES = {
+            "idx_workation_start_end ON workation (start_date, end_date)",
+            "idx_workation_end_start ON workation (end_date, start_date)",
+            "idx_workation_days ON workation (days)"
+    };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private WorkationService workationService;
+
+    @BeforeAll
+    void seed() {
+        BenchmarkSupport.seed(jdbcTemplate, BenchmarkSupport.rows());
+    }
+
+    @Test
+    void filteredListLatency() {
+        BenchmarkSupport.printHeader("Filtered list, first page of 10");
+
+        runLegacy("before: employee LOWER LIKE '%sarah j%'", "employee", "sarah j");
+        run("after: employee PREFIX 'sarah j'", new WorkationFilter("sarah j", null, null, null, null, null, null, null, SearchMode.PREFIX));
+        run("after: employee CONTAINS 'sarah j'", new WorkationFilter("sarah j", null, null, null, null, null, null, null, SearchMode.CONTAINS));
+
+        runLegacy("before: country LOWER LIKE '%croatia%'", "country", "croatia");
+        run("after: country EXACT 'croatia'", new WorkationFilter(null, "croatia", null, null, null, null, null, null, SearchMode.EXACT));
+        run("after: country PREFIX 'croatia'", new WorkationFilter(null, "croatia", null, null, null, null, null, null, SearchMode.PREFIX));
+    }
+
+    /**
+     * Seeded trips start between 2024 and 2026 and last 1 to 365 days. The first week of 2024 and the
+     * last of 2026 are selective on one bound each (start_date and end_date), a mid-2025 week matches
+     * about a sixth of all rows, and 360+ day trips are about 1.6% of them.
+     */
+    @Test
+    void rangeFilterLatency() {
+        Map<String, WorkationFilter> cases = new LinkedHashMap<>();
+        cases.put("window 2024-01-01..07", range(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 7), null, null));
+        cases.put("window 2026-12-25..31", range(LocalDate.of(2026, 12, 25), LocalDate.of(2026, 12, 31), null, null));
+        cases.put("window 2025-06-01..07", range(LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 7), null, null));
+        cases.put("days 360..365", range(null, null, 360, 365));
+        cases.put("window 2024-01-01..07, days <= 7", range(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 7), null, 7));
+
+        BenchmarkSupport.printHeader("Range filters, first page of 10");
+        cases.forEach((name, filter) -> run("indexed: " + name, filter));
+
+        for (String index : RANGE_INDEXES) {
+            jdbcTemplate.execute("DROP INDEX " + index.substring(0, index.indexOf(' ')));
+        }
+        try {
+            cases.forEach((name, filter) -> run("no index: " + name, filter));
+        } finally {
+            for (String index : RANGE_INDEXES) {
+                jdbcTemplate.execute("CREATE INDEX " + index);
+            }
+            jdbcTemplate.execute("ANALYZE");
+        }
+
+        System.out.println("\nPlan of the window count:");
+        jdbcTemplate.queryForList("EXPLAIN SELECT COUNT(*) FROM workation "
+                        + "WHERE end_date > TIMESTAMP '2024-01-01 00:00:00' AND start_date < TIMESTAMP '2024-01-08 00:00:00'",
+                String.class).forEach(System.out::println);
+    }
+
+    private static WorkationFilter range(LocalDate from, LocalDate to, Integer minDays, Integer maxDays) {
+        WorkationFilter filter = new WorkationFilter();
+        filter.setFrom(from);
+        filter.setTo(to);
+        filter.setMinDays(minDays);
+        filter.setMaxDays(maxDays);
+        return filter;
+    }
+
+    private void runLegacy(String name, String column, String term) {
+        String pattern = "%" + term + "%";
+        BenchmarkSupport.printRow(name, BenchmarkSupport.measure(WARMUPS, ITERATIONS, () -> {
+            jdbcTemplate.queryForList(String.format(LEGACY_SELECT, column), pattern);
+            return jdbcTemplate.queryForObject(String.format(LEGACY_COUNT, column), Long.class, pattern);
+        }));
+    }
+
+    private void run(String name, WorkationFilter filter) {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("id"));
+        BenchmarkSupport.printRow(name, BenchmarkSupport.measure(WARMUPS, ITERATIONS,
+                () -> workationService.getAllWorkations(pageable, filter)));
+    }
+}
@@ -0,0 +1,86 @@
+package com.workflex.demonic.benchmark;
+
+import com.workflex.demonic.dto.WorkationMapper;
+import com.workflex.demonic.model.Workation;
+import com.workflex.demonic.repository.WorkationRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * List path cost: loading managed entities and mapping them with WorkationMapper, against selecting
+ * WorkationResponseDto projections directly, and entity loads in read-write versus read-only
+ * transactions (no dirty-checking snapshots). Reports latency and bytes allocated per request.
+ * Run with {@code ./mvnw test -Pbenchmark -Dtest=ProjectionBenchmark}.
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "app.csv.import.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:projection-benchmark;DB_CLOSE_DELAY=-1"
+})
+class ProjectionBenchmark {
+
+    private static final int WARMUPS = 10;
+    private static final int ITERATIONS = 50;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private WorkationMapper mapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    void seed() {
+        BenchmarkSupport.seed(jdbcTemplate, BenchmarkSupport.rows());
+    }
+
+    @Test
+    void entityVersusProjection() {
+        BenchmarkSupport.printHeader("List page, entity + mapper vs DTO projection");
+        Specification<Workation> spec = Specification.where(null);
+
+        for (int size : new int[]{10, 100, 1000}) {
+            Pageable pageable = PageRequest.of(1, size, Sort.by("employee"));
+
+            BenchmarkSupport.printRow("entity + mapper, size " + size, BenchmarkSupport.measure(WARMUPS, ITERATIONS,
+                    () -> workationRepository.findAll(spec, pageable).map(mapper::toResponseDto)));
+            BenchmarkSupport.printRow("projection, size " + size, BenchmarkSupport.measure(WARMUPS, ITERATIONS,
+                    () -> workationRepository.findResponsePage(spec, pageable)));
+        }
+    }
+
+    @Test
+    void readWriteVersusReadOnlyTransaction() {
+        BenchmarkSupport.printHeader("Entity page, read-write vs read-only transaction");
+        Specification<Workation> spec = Specification.where(null);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        for (int size : new int[]{100, 1000}) {
+            Pageable pageable = PageRequest.of(1, size, Sort.by("employee"));
+
+            BenchmarkSupport.printRow("read-write, size " + size, BenchmarkSupport.measure(WARMUPS, ITERATIONS,
+                    () -> readWrite.execute(status -> workationRepository.findAll(spec, pageable))));
+            BenchmarkSupport.printRow("read-only, size " + size, BenchmarkSupport.measure(WARMUPS, ITERATIONS,
+                    () -> readOnly.execute(status -> workationRepository.findAll(spec, pageable))));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.workflex.demonic.benchmark;
+
+import com.workflex.demonic.service.RiskEngine;
+import com.workflex.demonic.service.RiskRescoreReport;
+import com.workflex.demonic.service.RiskRescoringJob;
+import com.workflex.demonic.service.WorkationCache;
+import com.workflex.demonic.service.WorkationChangeFeed;
+import com.workflex.demonic.service.WorkationOutbox;
+import com.workflex.demonic.service.WorkationRollup;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Risk re-scoring of every row after a rule change (simulated by resetting all rows to NO_RISK),
+ * with 1 to 8 parallel chunk workers. While the job runs, a probe thread keeps updating random
+ * single rows; its latency shows that writers only wait for the chunk holding their row, never
+ * for the whole job.
+ * Run with {@code ./mvnw test -Pbenchmark -Dtest=RiskRescoringBenchmark}.
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "app.csv.import.enabled=false",
+        "app.cache.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:rescore-benchmark;DB_CLOSE_DELAY=-1"
+})
+class RiskRescoringBenchmark {
+
+    private static final int CHUNK_SIZE = 10_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RiskEngine riskEngine;
+
+    @Autowired
+    private WorkationRollup rollup;
+
+    @Autowired
+    private WorkationCache cache;
+
+    @Autowired
+    private WorkationChangeFeed changes;
+
+    @Autowired
+    private WorkationOutbox outbox;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    void seed() {
+        BenchmarkSupport.seed(jdbcTemplate, BenchmarkSupport.rows());
+    }
+
+    @Test
+    void rescoreAllRows() throws Exception {
+        System.out.printf("%n=== Risk re-scoring of all rows, %,d ids per chunk (%,d rows) ===%n",
+                CHUNK_SIZE, BenchmarkSupport.rows());
+        System.out.printf("%-12s %12s %12s %10s %16s %16s%n",
+                "parallelism", "rows/s", "changed", "seconds", "probe p50 ms", "probe p99 ms");
+
+        for (int parallelism : new int[]{1, 2, 4, 8}) {
+            jdbcTemplate.update("UPDATE workation SET risk = 'NO_RISK'");
+            rollup.rebuild();
+            RiskRescoringJob job = new RiskRescoringJob(jdbcTemplate, riskEngine, rollup, cache, changes, outbox,
+                    transactionManager, CHUNK_SIZE, parallelism);
+
+            AtomicBoolean done = new AtomicBoolean();
+            List<Long> probes = new ArrayList<>();
+            Thread probe = Thread.ofPlatform().start(() -> {
+                while (!done.get()) {
+                    long id = 1 + ThreadLocalRandom.current().nextInt(BenchmarkSupport.rows());
+                    long started = System.nanoTime();
+                    jdbcTemplate.update("UPDATE workation SET country_dest = country_dest WHERE id = ?", id);
+                    probes.add(System.nanoTime() - started);
+                }
+            });
+            RiskRescoreReport report = job.run();
+            done.set(true);
+            probe.join();
+
+            BenchmarkSupport.Latency latency = new BenchmarkSupport.Latency(
+                    probes.stream().mapToLong(Long::longValue).toArray(), 0);
+            System.out.printf("%-12d %12.0f %12d %10.2f %16.3f %16.3f%n", parallelism, report.getRowsPerSecond(),
+                    report.getChanged(), report.getElapsed().toMillis() / 1000.0,
+                    latency.percentileMillis(50), latency.percentileMillis(99));
+        }
+    }
+}
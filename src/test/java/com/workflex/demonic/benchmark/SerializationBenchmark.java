@@ -0,0 +1,116 @@
+package com.workflex.demonic.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workflex.demonic.dto.PageDto;
+import com.workflex.demonic.dto.WorkationResponseDto;
+import com.workflex.demonic.service.WorkationFilter;
+import com.workflex.demonic.service.WorkationService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * List response encoding: today's JSON {@link Page} against the slim {@link PageDto} envelope as
+ * JSON, CBOR and Smile, each written with the ObjectMapper of the application's message converter.
+ * Reports serialization latency, allocation and the payload size, raw and gzipped.
+ * Run with {@code ./mvnw test -Pbenchmark -Dtest=SerializationBenchmark}.
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "app.csv.import.enabled=false",
+        "app.cache.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:serialization-benchmark;DB_CLOSE_DELAY=-1"
+})
+class SerializationBenchmark {
+
+    private static final int WARMUPS = 20;
+    private static final int ITERATIONS = 100;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private WorkationService workationService;
+
+    @Autowired
+    private HttpMessageConverters converters;
+
+    @BeforeAll
+    void seed() {
+        BenchmarkSupport.seed(jdbcTemplate, BenchmarkSupport.rows());
+    }
+
+    @Test
+    void pageEncodings() {
+        ObjectMapper json = mapperFor(MediaType.APPLICATION_JSON);
+        ObjectMapper cbor = mapperFor(MediaType.APPLICATION_CBOR);
+        ObjectMapper smile = mapperFor(MediaType.parseMediaType("application/x-jackson-smile"));
+
+        System.out.printf("%n=== List page serialization (%,d rows) ===%n", BenchmarkSupport.rows());
+        System.out.printf("%-28s %10s %10s %12s %10s %10s%n", "case", "mean ms", "p95 ms", "alloc KB/op", "KB",
+                "gzip KB");
+        for (int size : new int[]{10, 100, 1000, 10_000}) {
+            Page<WorkationResponseDto> page = workationService.getAllWorkations(
+                    PageRequest.of(1, size, Sort.by("id")), new WorkationFilter());
+            PageDto<WorkationResponseDto> slim = PageDto.of(page);
+
+            run("json Page, " + size + " rows", json, page);
+            run("json slim, " + size + " rows", json, slim);
+            run("cbor slim, " + size + " rows", cbor, slim);
+            run("smile slim, " + size + " rows", smile, slim);
+        }
+    }
+
+    private static void run(String name, ObjectMapper mapper, Object body) {
+        BenchmarkSupport.Latency latency = BenchmarkSupport.measure(WARMUPS, ITERATIONS, () -> write(mapper, body));
+        byte[] bytes = write(mapper, body);
+        System.out.printf("%-28s %10.3f %10.3f %12.1f %10.1f %10.1f%n", name, latency.meanMillis(),
+                latency.percentileMillis(95), latency.allocatedBytesPerOp() / 1024.0, bytes.length / 1024.0,
+                gzip(bytes).length / 1024.0);
+    }
+
+    private ObjectMapper mapperFor(MediaType mediaType) {
+        return converters.getConverters().stream()
+                .filter(converter -> converter instanceof AbstractJackson2HttpMessageConverter)
+                .map(converter -> (AbstractJackson2HttpMessageConverter) converter)
+                .filter(converter -> converter.getSupportedMediaTypes().stream().anyMatch(mediaType::equalsTypeAndSubtype))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No converter for " + mediaType))
+                .getObjectMapper();
+    }
+
+    private static byte[] write(ObjectMapper mapper, Object body) {
+        try {
+            return mapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,84 @@
+package com.workflex.demonic.benchmark;
+
+import com.workflex.demonic.WorkationApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Wall-clock time from JVM launch until the application context has been refreshed, each start in a
+ * fresh JVM ({@code spring.context.exit=onRefresh} ends the process there). Compares the default
+ * configuration with the {@code fast-start} profile and, when {@code ./mvnw package -Pfast-start} has
+ * produced them, with the extracted jar running AOT-processed and from the CDS archive.
+ * Run with {@code ./mvnw test -Pbenchmark -Dtest=StartupTimeBenchmark}.
+ */
+@Tag("benchmark")
+class StartupTimeBenchmark {
+
+    private static final int WARMUPS = 1;
+    private static final int ITERATIONS = Integer.getInteger("benchmark.starts", 5);
+    private static final Path EXTRACTED_JAR = Path.of("target", "extracted", "workflex-practice-1.0.0.jar");
+    private static final Path CDS_ARCHIVE = Path.of("target", "application.jsa");
+
+    @Test
+    void startupTime() throws Exception {
+        String classpath = System.getProperty("java.class.path");
+        String main = WorkationApplication.class.getName();
+
+        System.out.printf("%n=== Startup until context refreshed (%d starts each) ===%n", ITERATIONS);
+        System.out.printf("%-48s %10s %10s %10s%n", "case", "mean ms", "p50 ms", "max ms");
+        print("default", measure(List.of("-cp", classpath, main)));
+        print("fast-start profile",
+                measure(List.of("-cp", classpath, main, "--spring.profiles.active=fast-start")));
+
+        if (Files.exists(EXTRACTED_JAR) && Files.exists(CDS_ARCHIVE)) {
+            print("fast-start profile, AOT + CDS", measure(List.of(
+                    "-XX:SharedArchiveFile=" + CDS_ARCHIVE, "-Dspring.aot.enabled=true",
+                    "-jar", EXTRACTED_JAR.toString(), "--spring.profiles.active=fast-start")));
+        } else {
+            System.out.println("(build with ./mvnw package -Pfast-start to include the AOT + CDS case)");
+        }
+    }
+
+    private static void print(String name, BenchmarkSupport.Latency latency) {
+        System.out.printf("%-48s %10.1f %10.1f %10.1f%n", name, latency.meanMillis(),
+                latency.percentileMillis(50), latency.percentileMillis(100));
+    }
+
+    private BenchmarkSupport.Latency measure(List<String> launch) throws IOException, InterruptedException {
+        for (int i = 0; i < WARMUPS; i++) {
+            start(launch);
+        }
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            samples[i] = start(launch);
+        }
+        return new BenchmarkSupport.Latency(samples, 0);
+    }
+
+    private long start(List<String> launch) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-Dspring.context.exit=onRefresh");
+        command.addAll(launch);
+        command.addAll(List.of("--server.port=0", "--app.csv.import.enabled=false", "--logging.level.root=WARN"));
+
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        assertTrue(process.waitFor(2, TimeUnit.MINUTES), "Application did not start");
+        long elapsed = System.nanoTime() - started;
+        assertEquals(0, process.exitValue(), "Application failed to start: " + command);
+        return elapsed;
+    }
+}
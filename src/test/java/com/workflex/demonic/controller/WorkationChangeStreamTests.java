@@ -0,0 +1,122 @@
+package com.workflex.demonic.controller;
+
+import com.workflex.demonic.model.Workation;
+import com.workflex.demonic.repository.WorkationRepository;
+import com.workflex.demonic.service.WorkationCache;
+import com.workflex.demonic.service.WorkationChangeFeed;
+import com.workflex.demonic.service.WorkationDayBudget;
+import com.workflex.demonic.service.WorkationOverlapIndex;
+import com.workflex.demonic.service.WorkationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+
+import static com.workflex.demonic.Workations.workation;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "app.csv.import.enabled=false",
+        "app.changes.heartbeat=PT0.2S",
+        "app.changes.timeout=PT10S"
+})
+@AutoConfigureMockMvc
+class WorkationChangeStreamTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WorkationService workationService;
+
+    @Autowired
+    private WorkationChangeFeed feed;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private WorkationCache workationCache;
+
+    @Autowired
+    private WorkationOverlapIndex overlapIndex;
+
+    @Autowired
+    private WorkationDayBudget dayBudget;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        workationRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM workation_rollup");
+        workationCache.clear();
+        overlapIndex.rebuild();
+        dayBudget.rebuild();
+    }
+
+    @Test
+    void testChanges_StreamsCommittedChanges() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/workations/changes").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MockHttpServletResponse response = result.getResponse();
+
+        Workation created = workationService.createWorkation(workation("Jane Doe", LocalDate.of(2025, 3, 1), 10));
+        workationService.deleteWorkation(created.getId());
+
+        String events = awaitContent(response, "event:deleted");
+        assertTrue(events.contains("event:created"));
+        assertTrue(events.contains("\"employee\":\"Jane Doe\""));
+        assertTrue(events.indexOf("event:created") < events.indexOf("event:deleted"));
+        assertTrue(events.contains("id:" + feed.eventId(feed.head() - 1)));
+    }
+
+    @Test
+    void testChanges_ResumesAfterLastEventId() throws Exception {
+        Workation created = workationService.createWorkation(workation("Jane Doe", LocalDate.of(2025, 3, 1), 10));
+        String lastEventId = feed.eventId(feed.head() - 1);
+        workationService.deleteWorkation(created.getId());
+
+        MvcResult result = mockMvc.perform(get("/api/v1/workations/changes").header("Last-Event-ID", lastEventId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String events = awaitContent(result.getResponse(), "event:deleted");
+        assertFalse(events.contains("event:created"));
+        assertFalse(events.contains("event:reset"));
+    }
+
+    @Test
+    void testChanges_UnknownLastEventIdStartsWithReset() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/workations/changes").param("lastEventId", "gone:42"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String events = awaitContent(result.getResponse(), "event:reset");
+        assertTrue(events.contains("id:" + feed.eventId(feed.head() - 1)));
+    }
+
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        String content = response.getContentAsString();
+        while (!content.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            content = response.getContentAsString();
+        }
+        String received = content;
+        assertTrue(received.contains(expected), () -> "Expected " + expected + " in:\n" + received);
+        return received;
+    }
+}
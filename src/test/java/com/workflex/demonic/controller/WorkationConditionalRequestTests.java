@@ -0,0 +1,228 @@
+package com.workflex.demonic.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workflex.demonic.dto.WorkationRequestDto;
+import com.workflex.demonic.model.Workation;
+import com.workflex.demonic.repository.WorkationRepository;
+import com.workflex.demonic.service.WorkationCache;
+import com.workflex.demonic.service.WorkationDayBudget;
+import com.workflex.demonic.service.WorkationOverlapIndex;
+import com.workflex.demonic.service.WorkationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Not @Transactional: versions only advance when an update is flushed at commit.
+ */
+@SpringBootTest(properties = "app.csv.import.enabled=false")
+@AutoConfigureMockMvc
+class WorkationConditionalRequestTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private WorkationService workationService;
+
+    @Autowired
+    private WorkationCache workationCache;
+
+    @Autowired
+    private WorkationOverlapIndex overlapIndex;
+
+    @Autowired
+    private WorkationDayBudget dayBudget;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        workationRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM workation_rollup");
+        workationCache.clear();
+        overlapIndex.rebuild();
+        dayBudget.rebuild();
+    }
+
+    @Test
+    void testGetById_RevalidatesAgainstTheVersion() throws Exception {
+        long id = create("John Doe", 10);
+
+        String etag = mockMvc.perform(get("/api/v1/workations/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, tag(0)))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(jsonPath("$.version").value(0))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/workations/{id}", id).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        // Also when the response is no longer cached
+        workationCache.clear();
+        mockMvc.perform(get("/api/v1/workations/{id}", id).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/v1/workations/{id}", id).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(put("/api/v1/workations/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request("John Doe", 12))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, tag(1)))
+                .andExpect(jsonPath("$.version").value(1));
+
+        mockMvc.perform(get("/api/v1/workations/{id}", id).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, tag(1)))
+                .andExpect(jsonPath("$.days").value(12));
+
+        mockMvc.perform(get("/api/v1/workations/{id}", 99999L).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testUpdate_IfMatchRejectsStaleVersions() throws Exception {
+        long id = create("Jane Doe", 10);
+
+        mockMvc.perform(put("/api/v1/workations/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, tag(0))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request("Jane Doe", 11))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, tag(1)));
+
+        // A second client still holding version 0 must not overwrite the change
+        mockMvc.perform(put("/api/v1/workations/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, tag(0))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request("Jane Doe", 30))))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(header().string(HttpHeaders.ETAG, tag(1)));
+
+        mockMvc.perform(put("/api/v1/workations/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "W/" + tag(1))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request("Jane Doe", 30))))
+                .andExpect(status().isPreconditionFailed());
+
+        // A tag without this instance's part, as issued before a restart, names no version of the row
+        mockMvc.perform(put("/api/v1/workations/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "\"1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request("Jane Doe", 30))))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(header().string(HttpHeaders.ETAG, tag(1)));
+
+        mockMvc.perform(put("/api/v1/workations/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "*")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request("Jane Doe", 13))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, tag(2)));
+
+        assertEquals(13, workationRepository.findById(id).orElseThrow().getDays());
+    }
+
+    @Test
+    void testUpdate_ConcurrentChangeIsNotLost() {
+        long id = create("Max Mustermann", 10);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // Another writer commits between this update's read and its flush
+        assertThrows(OptimisticLockingFailureException.class, () -> transaction.executeWithoutResult(status -> {
+            workationService.updateWorkation(id, entity("Max Mustermann", 20));
+            CompletableFuture.runAsync(() -> jdbcTemplate.update(
+                    "UPDATE workation SET days = 15, version = version + 1 WHERE id = ?", id)).join();
+        }));
+
+        Workation stored = workationRepository.findById(id).orElseThrow();
+        assertEquals(15, stored.getDays());
+        assertEquals(1L, stored.getVersion());
+    }
+
+    @Test
+    void testList_RevalidatesAgainstTheChangeGeneration() throws Exception {
+        create("John Doe", 10);
+
+        String etag = mockMvc.perform(get("/api/v1/workations"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/workations").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/v1/workations").param("cursor", "").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        create("Jane Doe", 10);
+
+        String changed = mockMvc.perform(get("/api/v1/workations").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, changed);
+    }
+
+    private String tag(long version) {
+        return "\"" + workationCache.versionTag(version) + "\"";
+    }
+
+    private long create(String employee, int days) {
+        return workationService.createWorkation(entity(employee, days)).getId();
+    }
+
+    private static Workation entity(String employee, int days) {
+        Workation workation = new Workation();
+        workation.setEmployee(employee);
+        workation.setCountry("Germany");
+        workation.setCountry_dest("Spain");
+        workation.setStart_date(date(LocalDate.of(2025, 3, 1)));
+        workation.setEnd_date(date(LocalDate.of(2025, 3, 1).plusDays(days)));
+        workation.setDays(days);
+        return workation;
+    }
+
+    private static WorkationRequestDto request(String employee, int days) {
+        Workation workation = entity(employee, days);
+        return new WorkationRequestDto(workation.getEmployee(), workation.getCountry(), workation.getCountry_dest(),
+                workation.getStart_date(), workation.getEnd_date(), workation.getDays(), null);
+    }
+
+    private static Date date(LocalDate day) {
+        return Date.from(day.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
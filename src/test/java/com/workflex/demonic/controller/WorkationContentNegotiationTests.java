@@ -0,0 +1,137 @@
+package com.workflex.demonic.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.workflex.demonic.model.Risk;
+import com.workflex.demonic.model.Workation;
+import com.workflex.demonic.repository.WorkationRepository;
+import com.workflex.demonic.service.WorkationCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "app.csv.import.enabled=false")
+@AutoConfigureMockMvc
+class WorkationContentNegotiationTests {
+
+    private static final String APPLICATION_SMILE = "application/x-jackson-smile";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private WorkationCache workationCache;
+
+    @BeforeEach
+    void setUp() {
+        workationRepository.deleteAll();
+        workationCache.clear();
+        for (int i = 1; i <= 3; i++) {
+            save("Employee " + i, 10 * i);
+        }
+    }
+
+    @Test
+    void testList_CborUsesTheSlimEnvelope() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/workations").param("size", "2")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.ETAG, endsWith("-cbor\"")))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem("Accept")))
+                .andReturn();
+
+        JsonNode page = new CBORMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertEquals(2, page.get("content").size());
+        assertEquals("Employee 1", page.get("content").get(0).get("employee").asText());
+        assertEquals(0, page.get("page").asInt());
+        assertEquals(2, page.get("size").asInt());
+        assertEquals(3, page.get("totalElements").asLong());
+        assertEquals(2, page.get("totalPages").asInt());
+        assertFalse(page.has("pageable"));
+        assertFalse(page.has("sort"));
+    }
+
+    @Test
+    void testList_JsonKeepsThePageLayout() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/workations").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.pageable").exists())
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andReturn();
+        String jsonTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Browsers and curl send wildcards; they keep getting JSON
+        mockMvc.perform(get("/api/v1/workations").header(HttpHeaders.ACCEPT, "*/*"))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, jsonTag));
+
+        // A JSON tag does not validate the binary representation
+        mockMvc.perform(get("/api/v1/workations").accept(APPLICATION_SMILE)
+                        .header(HttpHeaders.IF_NONE_MATCH, jsonTag))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_SMILE));
+    }
+
+    @Test
+    void testGetById_Smile() throws Exception {
+        Workation saved = save("Smile Reader", 20);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/workations/{id}", saved.getId()).accept(APPLICATION_SMILE))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + workationCache.versionTag(0) + "-smile\""))
+                .andReturn();
+
+        JsonNode workation = new SmileMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertEquals(saved.getId().longValue(), workation.get("id").asLong());
+        assertEquals("Smile Reader", workation.get("employee").asText());
+        assertEquals(20, workation.get("days").asInt());
+    }
+
+    @Test
+    void testFormatNegotiation() {
+        assertEquals(ETags.Format.JSON, ETags.Format.of(null));
+        assertEquals(ETags.Format.JSON, ETags.Format.of("application/json, text/plain, */*"));
+        assertEquals(ETags.Format.CBOR, ETags.Format.of("application/cbor"));
+        assertEquals(ETags.Format.SMILE, ETags.Format.of("application/json;q=0.5, application/x-jackson-smile"));
+        assertEquals(ETags.Format.JSON, ETags.Format.of("application/cbor;q=0, */*"));
+        assertEquals("m5x2k1-7", ETags.requiredTag("\"m5x2k1-7-cbor\""));
+        assertEquals("m5x2k1-7", ETags.requiredTag("\"m5x2k1-7\""));
+        assertEquals("", ETags.requiredTag("W/\"m5x2k1-7\""));
+        assertNull(ETags.requiredTag("*"));
+    }
+
+    private Workation save(String employee, int days) {
+        LocalDate start = LocalDate.of(2025, 3, 1);
+        Workation workation = new Workation();
+        workation.setEmployee(employee);
+        workation.setCountry("Germany");
+        workation.setCountry_dest("Spain");
+        workation.setStart_date(Date.from(start.atStartOfDay(ZoneId.systemDefault()).toInstant()));
+        workation.setEnd_date(Date.from(start.plusDays(days).atStartOfDay(ZoneId.systemDefault()).toInstant()));
+        workation.setDays(days);
+        workation.setRisk(Risk.NO_RISK);
+        return workationRepository.save(workation);
+    }
+}
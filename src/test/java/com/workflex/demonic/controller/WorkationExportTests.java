@@ -0,0 +1,106 @@
+package com.workflex.demonic.controller;
+
+import com.workflex.demonic.model.Risk;
+import com.workflex.demonic.model.Workation;
+import com.workflex.demonic.repository.WorkationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Not @Transactional: the export is written on an async request thread, which only sees committed rows.
+ */
+@SpringBootTest(properties = {"app.csv.import.enabled=false", "app.export.fetch-size=2"})
+@AutoConfigureMockMvc
+class WorkationExportTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @BeforeEach
+    void setUp() {
+        workationRepository.deleteAll();
+    }
+
+    @Test
+    void testExport_NdjsonStreamsEveryMatchingRow() throws Exception {
+        for (int i = 1; i <= 5; i++) {
+            save("Employee " + i, "Germany");
+        }
+        save("Someone Else", "Spain");
+
+        String body = export("ndjson", "Germany", MediaType.APPLICATION_NDJSON_VALUE);
+
+        String[] lines = body.split("\n");
+        assertEquals(5, lines.length);
+        assertTrue(lines[0].startsWith("{") && lines[0].contains("\"employee\":\"Employee 1\""));
+        assertTrue(lines[4].contains("\"employee\":\"Employee 5\""));
+        assertTrue(body.endsWith("\n"));
+    }
+
+    @Test
+    void testExport_CsvMatchesImportLayout() throws Exception {
+        Workation saved = save("Doe, \"JJ\" John", "Germany");
+
+        String body = export("csv", null, "text/csv");
+
+        assertEquals("id,employee,country,country_dest,start_date,end_date,days,risk\n"
+                + saved.getId() + ",\"Doe, \"\"JJ\"\" John\",Germany,Spain,2025-03-01,2025-03-11,10,NO_RISK\n", body);
+    }
+
+    @Test
+    void testExport_UnknownFormat() throws Exception {
+        mockMvc.perform(get("/api/v1/workations/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String export(String format, String country, String contentType) throws Exception {
+        var builder = get("/api/v1/workations/export").param("format", format);
+        if (country != null) {
+            builder.param("country", country);
+        }
+        MvcResult result = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        return mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", startsWith(contentType)))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+
+    private Workation save(String employee, String country) {
+        Workation workation = new Workation();
+        workation.setEmployee(employee);
+        workation.setCountry(country);
+        workation.setCountry_dest("Spain");
+        workation.setStart_date(date(LocalDate.of(2025, 3, 1)));
+        workation.setEnd_date(date(LocalDate.of(2025, 3, 11)));
+        workation.setDays(10);
+        workation.setRisk(Risk.NO_RISK);
+        return workationRepository.save(workation);
+    }
+
+    private static Date date(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
@@ -0,0 +1,125 @@
+package com.workflex.demonic.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.workflex.demonic.model.Workation;
+import com.workflex.demonic.repository.WorkationRepository;
+import com.workflex.demonic.service.WorkationCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.workflex.demonic.Workations.workation;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Small limits, so that a page of ten rows is streamed and a page of more than fifty is refused.
+ */
+@SpringBootTest(properties = {
+        "app.csv.import.enabled=false",
+        "app.page.max-size=50",
+        "app.page.stream-threshold=10"
+})
+@AutoConfigureMockMvc
+class WorkationLargePageTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private WorkationCache workationCache;
+
+    @BeforeEach
+    void setUp() {
+        workationRepository.deleteAll();
+        workationCache.clear();
+        List<Workation> workations = new ArrayList<>();
+        for (int i = 1; i <= 25; i++) {
+            workations.add(workation("Employee " + i, LocalDate.of(2025, 3, 1), i));
+        }
+        workationRepository.saveAll(workations);
+    }
+
+    @Test
+    void testList_PageSizeAboveTheMaximumIsRejected() throws Exception {
+        mockMvc.perform(get("/api/v1/workations").param("size", "51"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Page size must be at most 50"));
+
+        mockMvc.perform(get("/api/v1/workations").param("cursor", "").param("size", "51"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testList_StreamedJsonKeepsThePageLayout() throws Exception {
+        mockMvc.perform(get("/api/v1/workations").param("size", "10").param("sortBy", "days"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("W/\"")))
+                .andExpect(jsonPath("$.content.length()").value(10))
+                .andExpect(jsonPath("$.content[0].employee").value("Employee 1"))
+                .andExpect(jsonPath("$.content[9].days").value(10))
+                .andExpect(jsonPath("$.pageable.pageSize").value(10))
+                .andExpect(jsonPath("$.totalElements").value(25))
+                .andExpect(jsonPath("$.totalPages").value(3))
+                .andExpect(jsonPath("$.number").value(0))
+                .andExpect(jsonPath("$.numberOfElements").value(10))
+                .andExpect(jsonPath("$.first").value(true))
+                .andExpect(jsonPath("$.last").value(false));
+
+        mockMvc.perform(get("/api/v1/workations").param("size", "10").param("page", "2")
+                        .param("sortBy", "days"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(5))
+                .andExpect(jsonPath("$.content[4].days").value(25))
+                .andExpect(jsonPath("$.totalElements").value(25))
+                .andExpect(jsonPath("$.last").value(true))
+                .andExpect(jsonPath("$.empty").value(false));
+
+        // Past the end the total has to be counted
+        mockMvc.perform(get("/api/v1/workations").param("size", "10").param("page", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(0))
+                .andExpect(jsonPath("$.totalElements").value(25))
+                .andExpect(jsonPath("$.empty").value(true));
+    }
+
+    @Test
+    void testList_StreamedCborUsesTheSlimEnvelope() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/workations").param("size", "20")
+                        .param("country", "Germany")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        JsonNode page = new CBORMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertEquals(20, page.get("content").size());
+        assertEquals(0, page.get("page").asInt());
+        assertEquals(20, page.get("size").asInt());
+        assertEquals(25, page.get("totalElements").asLong());
+        assertEquals(2, page.get("totalPages").asInt());
+        assertFalse(page.has("pageable"));
+    }
+
+    @Test
+    void testList_StreamedPageRejectsUnknownSortFieldsUpFront() throws Exception {
+        mockMvc.perform(get("/api/v1/workations").param("size", "10").param("sortBy", "password"))
+                .andExpect(status().isBadRequest());
+    }
+}
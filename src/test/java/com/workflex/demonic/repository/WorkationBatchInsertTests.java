@@ -0,0 +1,73 @@
+package com.workflex.demonic.repository;
+
+import com.workflex.demonic.model.Risk;
+import com.workflex.demonic.model.Workation;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "app.csv.import.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50"
+})
+class WorkationBatchInsertTests {
+
+    private static final int ROWS = 500;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        workationRepository.deleteAll();
+    }
+
+    @Test
+    void testSaveAll_InsertsAreBatched() {
+        List<Workation> workations = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            Workation workation = new Workation();
+            workation.setEmployee("Employee " + i);
+            workation.setCountry("Germany");
+            workation.setCountry_dest("Spain");
+            workation.setStart_date(new Date());
+            workation.setEnd_date(new Date());
+            workation.setDays(10);
+            workation.setRisk(Risk.NO_RISK);
+            workations.add(workation);
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> workationRepository.saveAll(workations));
+
+        // One insert statement per batch plus one sequence call per pooled block of 50 ids
+        long expected = ROWS / BATCH_SIZE * 2;
+        assertEquals(ROWS, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() <= expected + 2,
+                "Expected about " + expected + " statements but got " + statistics.getPrepareStatementCount());
+        assertEquals(ROWS, workationRepository.count());
+    }
+}
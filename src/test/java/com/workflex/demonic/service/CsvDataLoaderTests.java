@@ -0,0 +1,76 @@
+package com.workflex.demonic.service;
+
+import com.workflex.demonic.model.Risk;
+import com.workflex.demonic.repository.WorkationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"app.csv.import.enabled=false", "app.csv.import.batch-size=2"})
+class CsvDataLoaderTests {
+
+    @Autowired
+    private CsvDataLoader csvDataLoader;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @BeforeEach
+    void setUp() {
+        workationRepository.deleteAll();
+    }
+
+    @Test
+    void testLoad_ImportsValidRowsAndReportsRejections() {
+        String csv = """
+                id,employee,country,country_dest,start_date,end_date,days,risk
+                1,Sarah Johnson,United States,Portugal,2025-03-15,2025-05-29,75,LOW_RISK
+                2,Michael Chen,Singapore,Japan,2025-02-10,2025-02-24,14,NO_RISK
+                3,"Rodriguez, Emma",Spain,Mexico,2025-04-01,2025-06-25,85,LOW_RISK
+                4,Broken Row,Spain
+                5,Bad Date,Spain,Mexico,2025/04/01,2025-06-25,85,LOW_RISK
+                6,Unknown Risk,Spain,Mexico,2025-04-01,2025-06-25,85,MEDIUM_RISK
+                7,Too Long,Spain,Mexico,2025-04-01,2026-06-25,500,HIGH_RISK
+                8,Backwards,Spain,Mexico,2025-06-25,2025-04-01,85,LOW_RISK
+                9,No Risk,Spain,Mexico,2025-07-01,2025-07-11,10
+                """;
+
+        CsvImportReport report = csvDataLoader.load(resource(csv));
+
+        assertEquals(9, report.getLinesRead());
+        assertEquals(5, report.getImported());
+        assertEquals(4, report.getRejected());
+        // The risk column is ignored: RiskEngine classifies every imported row
+        assertEquals(Risk.LOW_RISK, risk("Unknown Risk"));
+        assertEquals(Risk.NO_RISK, risk("No Risk"));
+        assertEquals(1L, report.getRejectionReasons().get("Trip duration cannot exceed 365 days"));
+        assertEquals(1L, report.getRejectionReasons().get("End date is before start date"));
+        assertEquals(5, workationRepository.count());
+        assertSame(report, csvDataLoader.getLastReport());
+    }
+
+    @Test
+    void testSplitLine_HandlesQuotedFields() {
+        List<String> fields = CsvDataLoader.splitLine("1, \"Doe, John\" ,\"Say \"\"hi\"\"\",x");
+
+        assertEquals(List.of("1", "Doe, John", "Say \"hi\"", "x"), fields);
+    }
+
+    private Risk risk(String employee) {
+        return workationRepository.findAll().stream()
+                .filter(workation -> workation.getEmployee().equals(employee))
+                .findFirst().orElseThrow()
+                .getRisk();
+    }
+
+    private ByteArrayResource resource(String csv) {
+        return new ByteArrayResource(csv.getBytes(StandardCharsets.UTF_8), "test csv");
+    }
+}
@@ -0,0 +1,127 @@
+package com.workflex.demonic.service;
+
+import com.workflex.demonic.WorkationApplication;
+import com.workflex.demonic.model.Workation;
+import com.workflex.demonic.repository.WorkationRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Warm restart of the {@code persistent} profile: the second start finds the imported rows and skips the import.
+ * The data is loaded in the background after startup; the {@code dataLoad} health reports UP once it is done,
+ * and keeps readiness down when it fails.
+ * A store created by Hibernate before the migrations existed is baselined and upgraded in place.
+ */
+class DataInitializerTests {
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    void testPersistentStore_ImportsOnceAndKeepsDataAcrossRestarts() throws Exception {
+        long imported;
+        try (ConfigurableApplicationContext context = start()) {
+            awaitDataLoad(context);
+            assertNotNull(context.getBean(CsvDataLoader.class).getLastReport());
+            imported = context.getBean(WorkationRepository.class).count();
+            assertTrue(imported > 0);
+        }
+
+        try (ConfigurableApplicationContext context = start()) {
+            awaitDataLoad(context);
+            assertNull(context.getBean(CsvDataLoader.class).getLastReport());
+            assertEquals(imported, context.getBean(WorkationRepository.class).count());
+            assertFalse(context.getBean(WorkationRollup.class).isEmpty());
+        }
+    }
+
+    @Test
+    void testPersistentStore_UpgradesSchemaCreatedBeforeMigrations() throws Exception {
+        // The schema Hibernate generated for the original model: IDENTITY ids, no search columns, no rollup
+        String url = "jdbc:h2:file:" + dataDir.toAbsolutePath() + "/workflexdb";
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE workation (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " +
+                    "employee VARCHAR(255), country VARCHAR(255), country_dest VARCHAR(255), " +
+                    "start_date TIMESTAMP(6), end_date TIMESTAMP(6), days INTEGER NOT NULL, risk VARCHAR(255))");
+            statement.execute("INSERT INTO workation (id, employee, country, country_dest, start_date, end_date, days, risk) " +
+                    "VALUES (120, ' Jane Doe ', 'Germany', 'Spain', TIMESTAMP '2025-03-01 00:00:00', " +
+                    "TIMESTAMP '2025-03-11 00:00:00', 10, 'NO_RISK')");
+        }
+
+        try (ConfigurableApplicationContext context = start()) {
+            awaitDataLoad(context);
+            assertNull(context.getBean(CsvDataLoader.class).getLastReport());
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            assertEquals("jane doe", jdbcTemplate.queryForObject(
+                    "SELECT employee_search FROM workation WHERE id = 120", String.class));
+            assertEquals("1", jdbcTemplate.queryForObject(
+                    "SELECT \"version\" FROM \"flyway_schema_history\" WHERE \"type\" = 'BASELINE'", String.class));
+            assertFalse(context.getBean(WorkationRollup.class).isEmpty());
+
+            Workation workation = new Workation();
+            workation.setEmployee("John Roe");
+            workation.setCountry("Germany");
+            workation.setCountry_dest("Italy");
+            workation.setStart_date(Timestamp.valueOf("2025-05-01 00:00:00"));
+            workation.setEnd_date(Timestamp.valueOf("2025-05-06 00:00:00"));
+            workation.setDays(5);
+            Workation created = context.getBean(WorkationService.class).createWorkation(workation);
+            assertTrue(created.getId() > 120);
+        }
+    }
+
+    @Test
+    void testFailedImport_KeepsReadinessDown() throws Exception {
+        try (ConfigurableApplicationContext context = start("--app.csv.import.location=file:"
+                + dataDir.resolve("missing.csv").toAbsolutePath())) {
+            DataInitializer initializer = context.getBean(DataInitializer.class);
+            long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+            while (initializer.getState() != DataInitializer.State.FAILED && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            assertEquals(DataInitializer.State.FAILED, initializer.getState());
+            Health health = context.getBean(DataLoadHealthIndicator.class).health();
+            assertEquals(Status.DOWN, health.getStatus());
+            assertEquals(DataInitializer.State.FAILED, health.getDetails().get("state"));
+        }
+    }
+
+    private void awaitDataLoad(ConfigurableApplicationContext context) throws InterruptedException {
+        DataInitializer initializer = context.getBean(DataInitializer.class);
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (initializer.getState() != DataInitializer.State.READY && System.nanoTime() < deadline) {
+            assertNotEquals(DataInitializer.State.FAILED, initializer.getState());
+            Thread.sleep(50);
+        }
+        assertEquals(DataInitializer.State.READY, initializer.getState(), "Data load did not finish");
+        assertEquals(Status.UP, context.getBean(DataLoadHealthIndicator.class).health().getStatus());
+    }
+
+    private ConfigurableApplicationContext start(String... args) {
+        String[] all = new String[args.length + 2];
+        all[0] = "--app.data-dir=" + dataDir.toAbsolutePath();
+        all[1] = "--app.csv.import.enabled=true";
+        System.arraycopy(args, 0, all, 2, args.length);
+        return new SpringApplicationBuilder(WorkationApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("persistent")
+                // Arguments, since default properties would lose to application-persistent.properties
+                .run(all);
+    }
+}
@@ -0,0 +1,80 @@
+package com.workflex.demonic.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntervalTreeTests {
+
+    @Test
+    void testOverlapping_MatchesLinearScanAfterRandomInsertsAndRemoves() {
+        Random random = new Random(7);
+        IntervalTree tree = new IntervalTree();
+        List<IntervalTree.Interval> expected = new ArrayList<>();
+
+        for (long id = 0; id < 2_000; id++) {
+            long start = random.nextInt(10_000);
+            IntervalTree.Interval interval = new IntervalTree.Interval(id, start, start + 1 + random.nextInt(300));
+            tree.insert(interval);
+            expected.add(interval);
+            if (random.nextInt(3) == 0) {
+                IntervalTree.Interval removed = expected.remove(random.nextInt(expected.size()));
+                assertTrue(tree.remove(removed));
+            }
+        }
+        assertEquals(expected.size(), tree.size());
+        expected.sort(Comparator.comparingLong(IntervalTree.Interval::start).thenComparingLong(IntervalTree.Interval::id));
+
+        for (int i = 0; i < 500; i++) {
+            long from = random.nextInt(10_500);
+            long to = from + random.nextInt(500);
+            List<IntervalTree.Interval> found = new ArrayList<>();
+            tree.overlapping(from, to, found::add);
+            assertEquals(expected.stream().filter(interval -> interval.overlaps(from, to)).toList(), found);
+        }
+    }
+
+    @Test
+    void testIntervals_AreHalfOpen() {
+        IntervalTree tree = new IntervalTree();
+        tree.insert(new IntervalTree.Interval(1, 10, 20));
+
+        List<IntervalTree.Interval> found = new ArrayList<>();
+        tree.overlapping(20, 30, found::add);
+        tree.overlapping(0, 10, found::add);
+        assertTrue(found.isEmpty());
+
+        tree.overlapping(19, 20, found::add);
+        assertEquals(1, found.size());
+    }
+
+    @Test
+    void testOverlapping_StopsWhenVisitorReturnsFalse() {
+        IntervalTree tree = new IntervalTree();
+        for (long id = 0; id < 100; id++) {
+            tree.insert(new IntervalTree.Interval(id, id, id + 50));
+        }
+
+        List<Long> ids = new ArrayList<>();
+        tree.overlapping(0, 1_000, interval -> {
+            ids.add(interval.id());
+            return ids.size() < 3;
+        });
+        assertEquals(List.of(0L, 1L, 2L), ids);
+    }
+
+    @Test
+    void testRemove_UnknownIntervalReturnsFalse() {
+        IntervalTree tree = new IntervalTree();
+        tree.insert(new IntervalTree.Interval(1, 10, 20));
+
+        assertFalse(tree.remove(new IntervalTree.Interval(2, 10, 20)));
+        assertTrue(tree.remove(new IntervalTree.Interval(1, 10, 20)));
+        assertTrue(tree.isEmpty());
+    }
+}
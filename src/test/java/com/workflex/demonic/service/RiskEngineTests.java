@@ -0,0 +1,200 @@
+package com.workflex.demonic.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workflex.demonic.dto.WorkationRequestDto;
+import com.workflex.demonic.dto.WorkationStatsDto;
+import com.workflex.demonic.model.Risk;
+import com.workflex.demonic.model.Workation;
+import com.workflex.demonic.repository.WorkationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "app.csv.import.enabled=false",
+        "app.risk.high-risk-destinations=Atlantis, Mordor",
+        "app.risk.rescore.chunk-size=7"
+})
+@AutoConfigureMockMvc
+class RiskEngineTests {
+
+    @Autowired
+    private RiskEngine riskEngine;
+
+    @Autowired
+    private RiskRescoringJob rescoringJob;
+
+    @Autowired
+    private WorkationRollup rollup;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private WorkationCache workationCache;
+
+    @Autowired
+    private WorkationOverlapIndex overlapIndex;
+
+    @Autowired
+    private WorkationDayBudget dayBudget;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        workationRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM workation_rollup");
+        workationCache.clear();
+        overlapIndex.rebuild();
+        dayBudget.rebuild();
+    }
+
+    @Test
+    void testClassify_ByDurationDatesAndDestination() {
+        assertEquals(Risk.NO_RISK, riskEngine.classify(workation("Spain", LocalDate.of(2025, 3, 1), 50)));
+        assertEquals(Risk.LOW_RISK, riskEngine.classify(workation("Spain", LocalDate.of(2025, 3, 1), 51)));
+        assertEquals(Risk.LOW_RISK, riskEngine.classify(workation("Spain", LocalDate.of(2025, 3, 1), 100)));
+        assertEquals(Risk.HIGH_RISK, riskEngine.classify(workation("Spain", LocalDate.of(2025, 3, 1), 101)));
+
+        // The dates count when they span more than the stated days
+        Workation understated = workation("Spain", LocalDate.of(2025, 3, 1), 120);
+        understated.setDays(10);
+        assertEquals(Risk.HIGH_RISK, riskEngine.classify(understated));
+
+        // A listed destination is high risk whatever the length
+        assertEquals(Risk.HIGH_RISK, riskEngine.classify(workation(" mordor ", LocalDate.of(2025, 3, 1), 5)));
+    }
+
+    @Test
+    void testCreate_IgnoresClientRisk() throws Exception {
+        WorkationRequestDto request = new WorkationRequestDto("Jane Doe", "Germany", "Spain",
+                date(LocalDate.of(2025, 3, 1)), date(LocalDate.of(2025, 3, 11)), 10, Risk.HIGH_RISK);
+
+        mockMvc.perform(post("/api/v1/workations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.risk").value("NO_RISK"));
+
+        request.setRisk(null);
+        request.setCountryDest("Atlantis");
+        request.setStartDate(date(LocalDate.of(2025, 6, 1)));
+        request.setEndDate(date(LocalDate.of(2025, 6, 11)));
+        mockMvc.perform(post("/api/v1/workations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.risk").value("HIGH_RISK"));
+    }
+
+    @Test
+    void testUpdate_DerivesRiskFromTheNewDestinationAndDates() throws Exception {
+        WorkationRequestDto request = new WorkationRequestDto("Jane Doe", "Germany", "Spain",
+                date(LocalDate.of(2025, 3, 1)), date(LocalDate.of(2025, 3, 11)), 10, null);
+        String created = mockMvc.perform(post("/api/v1/workations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(created).get("id").asLong();
+
+        request.setCountryDest("Atlantis");
+        mockMvc.perform(put("/api/v1/workations/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.countryDest").value("Atlantis"))
+                .andExpect(jsonPath("$.risk").value("HIGH_RISK"));
+
+        // Dates spanning more than 100 days count even when the stated days do not
+        request.setCountryDest("Spain");
+        request.setEndDate(date(LocalDate.of(2025, 7, 1)));
+        mockMvc.perform(put("/api/v1/workations/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.risk").value("HIGH_RISK"));
+        assertEquals(Risk.HIGH_RISK, workationRepository.findById(id).orElseThrow().getRisk());
+    }
+
+    @Test
+    void testRescore_FixesStoredRiskAndRollup() throws Exception {
+        // Rows written past the engine, every third one with a wrong risk
+        List<Object[]> rows = new ArrayList<>();
+        for (int id = 1; id <= 40; id++) {
+            LocalDate start = LocalDate.of(2025, 1, 1).plusDays(id);
+            int days = id * 3;
+            Risk correct = days > 100 ? Risk.HIGH_RISK : days > 50 ? Risk.LOW_RISK : Risk.NO_RISK;
+            Risk stored = id % 3 == 0 ? Risk.values()[(correct.ordinal() + 1) % Risk.values().length] : correct;
+            // Ids far above the sequence, so they never meet rows created through JPA
+            rows.add(new Object[]{1_000_000 + id, "Employee " + id, "Germany", "Spain", Timestamp.valueOf(start.atStartOfDay()),
+                    Timestamp.valueOf(start.plusDays(days).atStartOfDay()), days, stored.name()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO workation (id, employee, country, country_dest, start_date, end_date, " +
+                "days, risk) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        rollup.rebuild();
+
+        RiskRescoreReport report = rescoringJob.run();
+
+        assertEquals(RiskRescoreReport.State.COMPLETED, report.getState());
+        assertEquals(40, report.getScanned());
+        assertEquals(13, report.getChanged());
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM workation WHERE risk <> CASE " +
+                "WHEN days > 100 THEN 'HIGH_RISK' WHEN days > 50 THEN 'LOW_RISK' ELSE 'NO_RISK' END", Integer.class));
+
+        // The incrementally adjusted rollup equals one computed from scratch
+        EnumSet<StatsDimension> all = EnumSet.allOf(StatsDimension.class);
+        List<WorkationStatsDto> incremental = rollup.summarize(all);
+        rollup.rebuild();
+        assertEquals(rollup.summarize(all), incremental);
+
+        // A second run has nothing left to change
+        assertEquals(0, rescoringJob.run().getChanged());
+        mockMvc.perform(get("/api/v1/workations/risk/rescore"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("COMPLETED"))
+                .andExpect(jsonPath("$.scanned").value(40));
+    }
+
+    private static Workation workation(String destination, LocalDate start, int days) {
+        Workation workation = new Workation();
+        workation.setEmployee("Jane Doe");
+        workation.setCountry("Germany");
+        workation.setCountry_dest(destination);
+        workation.setStart_date(date(start));
+        workation.setEnd_date(date(start.plusDays(days)));
+        workation.setDays(days);
+        return workation;
+    }
+
+    private static Date date(LocalDate day) {
+        return Date.from(day.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
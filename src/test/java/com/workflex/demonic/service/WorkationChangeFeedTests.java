@@ -0,0 +1,103 @@
+package com.workflex.demonic.service;
+
+import com.workflex.demonic.exception.WorkationConflictException;
+import com.workflex.demonic.model.Workation;
+import com.workflex.demonic.repository.WorkationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.workflex.demonic.Workations.workation;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Not @Transactional: changes are only published when the service's own transaction commits.
+ */
+@SpringBootTest(properties = {"app.csv.import.enabled=false", "app.changes.buffer-size=4"})
+class WorkationChangeFeedTests {
+
+    @Autowired
+    private WorkationChangeFeed feed;
+
+    @Autowired
+    private WorkationService workationService;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private WorkationCache workationCache;
+
+    @Autowired
+    private WorkationOverlapIndex overlapIndex;
+
+    @Autowired
+    private WorkationDayBudget dayBudget;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        workationRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM workation_rollup");
+        workationCache.clear();
+        overlapIndex.rebuild();
+        dayBudget.rebuild();
+    }
+
+    @Test
+    void testCommittedChangesArePublishedInOrder() throws Exception {
+        long from = feed.head();
+        Workation created = workationService.createWorkation(workation("Jane Doe", LocalDate.of(2025, 3, 1), 10));
+        workationService.updateWorkation(created.getId(), workation("Jane Doe", LocalDate.of(2025, 3, 1), 12));
+        workationService.deleteWorkation(created.getId());
+
+        List<WorkationChange> changes = feed.poll(from, 10, Duration.ZERO);
+        assertEquals(List.of(WorkationChange.Type.CREATED, WorkationChange.Type.UPDATED, WorkationChange.Type.DELETED),
+                changes.stream().map(WorkationChange::getType).toList());
+        assertEquals(from, changes.get(0).getOffset());
+        assertEquals(0L, changes.get(0).getWorkation().getVersion());
+        // Mapped at commit, after the update was flushed
+        assertEquals(1L, changes.get(1).getWorkation().getVersion());
+        assertEquals(12, changes.get(1).getWorkation().getDays());
+        assertEquals(created.getId(), changes.get(2).getId());
+        assertNull(changes.get(2).getWorkation());
+    }
+
+    @Test
+    void testRolledBackChangesAreNotPublished() throws Exception {
+        workationService.createWorkation(workation("Jane Doe", LocalDate.of(2025, 3, 1), 10));
+        long from = feed.head();
+
+        assertThrows(WorkationConflictException.class, () ->
+                workationService.createWorkation(workation("Jane Doe", LocalDate.of(2025, 3, 5), 10)));
+
+        assertEquals(from, feed.head());
+        assertTrue(feed.poll(from, 10, Duration.ofMillis(50)).isEmpty());
+    }
+
+    @Test
+    void testOverwrittenChangesCannotBeResumed() throws Exception {
+        long from = feed.head();
+        String lastSeen = feed.eventId(from);
+        for (int i = 0; i < 6; i++) {
+            workationService.createWorkation(workation("Employee " + i, LocalDate.of(2025, 3, 1), 10));
+        }
+
+        List<WorkationChange> changes = feed.poll(from + 1, 10, Duration.ZERO);
+        assertEquals(4, changes.size());
+        assertEquals(from + 2, changes.get(0).getOffset());
+        assertEquals(-1, feed.resumeAfter(lastSeen));
+        assertEquals(from + 5, feed.resumeAfter(feed.eventId(from + 4)));
+        assertEquals(feed.head(), feed.resumeAfter(feed.eventId(feed.head() - 1)));
+        assertEquals(-1, feed.resumeAfter("restarted:" + from));
+        assertEquals(-1, feed.resumeAfter("garbage"));
+    }
+}
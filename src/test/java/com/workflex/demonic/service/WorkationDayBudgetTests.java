@@ -0,0 +1,168 @@
+package com.workflex.demonic.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workflex.demonic.exception.WorkationBudgetExceededException;
+import com.workflex.demonic.model.Workation;
+import com.workflex.demonic.repository.WorkationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static com.workflex.demonic.Workations.workation;
+import static com.workflex.demonic.Workations.request;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {"app.csv.import.enabled=false", "app.budget.max-days-per-year=100"})
+@AutoConfigureMockMvc
+class WorkationDayBudgetTests {
+
+    @Autowired
+    private WorkationService workationService;
+
+    @Autowired
+    private WorkationDayBudget dayBudget;
+
+    @Autowired
+    private WorkationOverlapIndex overlapIndex;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        workationRepository.deleteAll();
+        overlapIndex.rebuild();
+        dayBudget.rebuild();
+    }
+
+    @Test
+    void testSplit_CountsDaysAgainstEachYearOfTheTrip() {
+        assertEquals(Map.of(2025, 10), WorkationDayBudget.Usage.split(
+                LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 11), 10));
+        assertEquals(Map.of(2025, 6, 2026, 4), WorkationDayBudget.Usage.split(
+                LocalDate.of(2025, 12, 26), LocalDate.of(2026, 1, 5), 10));
+        // Parts always add up to the trip's days
+        assertEquals(Map.of(2025, 3, 2026, 2), WorkationDayBudget.Usage.split(
+                LocalDate.of(2025, 12, 26), LocalDate.of(2026, 1, 5), 5));
+        // A trip ending on New Year's Day is spent entirely in the old year
+        assertEquals(Map.of(2025, 6), WorkationDayBudget.Usage.split(
+                LocalDate.of(2025, 12, 26), LocalDate.of(2026, 1, 1), 6));
+    }
+
+    @Test
+    void testTotals_FollowCreateUpdateDelete() {
+        Workation march = workationService.createWorkation(workation("Jane Doe", LocalDate.of(2025, 3, 1), 30));
+        workationService.createWorkation(workation("jane doe ", LocalDate.of(2025, 12, 22), 20));
+
+        assertEquals(40, dayBudget.usedDays("Jane Doe", 2025));
+        assertEquals(10, dayBudget.usedDays("Jane Doe", 2026));
+
+        workationService.updateWorkation(march.getId(), workation("Jane Doe", LocalDate.of(2025, 3, 1), 20));
+        assertEquals(30, dayBudget.usedDays("Jane Doe", 2025));
+
+        workationService.deleteWorkation(march.getId());
+        assertEquals(10, dayBudget.usedDays("Jane Doe", 2025));
+    }
+
+    @Test
+    void testUpdate_MovesDaysToTheYearOfTheNewDates() {
+        Workation trip = workationService.createWorkation(workation("Jane Doe", LocalDate.of(2025, 3, 1), 30));
+        workationService.createWorkation(workation("Jane Doe", LocalDate.of(2026, 6, 1), 80));
+
+        // 80 + 30 days would exceed the limit in 2026; the trip stays in 2025
+        Workation intoFullYear = workation("Jane Doe", LocalDate.of(2026, 3, 1), 30);
+        assertThrows(WorkationBudgetExceededException.class,
+                () -> workationService.updateWorkation(trip.getId(), intoFullYear));
+        assertEquals(30, dayBudget.usedDays("Jane Doe", 2025));
+        assertEquals(80, dayBudget.usedDays("Jane Doe", 2026));
+
+        workationService.updateWorkation(trip.getId(), workation("Jane Doe", LocalDate.of(2026, 3, 1), 20));
+        assertEquals(0, dayBudget.usedDays("Jane Doe", 2025));
+        assertEquals(100, dayBudget.usedDays("Jane Doe", 2026));
+    }
+
+    @Test
+    void testCreate_RejectsTripOverTheYearlyLimit() throws Exception {
+        workationService.createWorkation(workation("Jane Doe", LocalDate.of(2025, 1, 1), 80));
+
+        mockMvc.perform(post("/api/v1/workations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request("Jane Doe", "2025-06-01", "2025-06-22", 21))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value(containsString("101 days")));
+
+        // The days fit when most of them fall into the next year
+        assertDoesNotThrow(() -> workationService.createWorkation(workation("Jane Doe", LocalDate.of(2025, 12, 22), 21)));
+        assertEquals(90, dayBudget.usedDays("Jane Doe", 2025));
+        assertEquals(2, workationRepository.count());
+    }
+
+    @Test
+    void testRollback_ReleasesCountedDays() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            workationService.createWorkation(workation("Jane Doe", LocalDate.of(2025, 3, 1), 60));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, dayBudget.usedDays("Jane Doe", 2025));
+        assertDoesNotThrow(() -> workationService.createWorkation(workation("Jane Doe", LocalDate.of(2025, 3, 1), 60)));
+    }
+
+    @Test
+    void testBatchCreate_ReportsItemsOverTheLimit() {
+        List<BatchItem<Workation>> results = workationService.createWorkations(List.of(
+                workation("Jane Doe", LocalDate.of(2025, 2, 1), 60),
+                workation("Jane Doe", LocalDate.of(2025, 6, 1), 60),
+                workation("John Doe", LocalDate.of(2025, 6, 1), 60)));
+
+        assertTrue(results.get(0).isSuccess());
+        assertInstanceOf(WorkationBudgetExceededException.class, results.get(1).getError());
+        assertTrue(results.get(2).isSuccess());
+    }
+
+    @Test
+    void testBudgetEndpoint_ReportsUsedAndRemainingDays() throws Exception {
+        workationService.createWorkation(workation("Jane Doe", LocalDate.of(2025, 3, 1), 30));
+
+        mockMvc.perform(get("/api/v1/workations/budget")
+                        .param("employee", "jane doe")
+                        .param("year", "2025"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.year").value(2025))
+                .andExpect(jsonPath("$.usedDays").value(30))
+                .andExpect(jsonPath("$.maxDays").value(100))
+                .andExpect(jsonPath("$.remainingDays").value(70));
+    }
+
+    @Test
+    void testRebuild_CountsRowsWrittenPastTheService() {
+        workationRepository.save(workation("Jane Doe", LocalDate.of(2025, 3, 1), 30));
+        dayBudget.rebuild();
+
+        assertEquals(30, dayBudget.usedDays("Jane Doe", 2025));
+    }
+}
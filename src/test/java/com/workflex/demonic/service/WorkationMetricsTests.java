@@ -0,0 +1,89 @@
+package com.workflex.demonic.service;
+
+import com.workflex.demonic.config.WebMetricsConfig;
+import com.workflex.demonic.model.Risk;
+import com.workflex.demonic.repository.WorkationRepositoryCustomImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {"app.csv.import.enabled=false", "app.cache.enabled=false"})
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class WorkationMetricsTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private WorkationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache.clear();
+    }
+
+    @Test
+    void testListRequest_RecordsServiceQueryAndSerializationTimers() throws Exception {
+        // A page past the first always runs the count query, whatever the table holds
+        mockMvc.perform(get("/api/v1/workations").param("country", "germ").param("risk", "HIGH_RISK").param("page", "1"))
+                .andExpect(status().isOk());
+
+        Timer service = meterRegistry.find(WorkationMetrics.SERVICE_TIMER)
+                .tags("operation", "list", "filters", "country+risk", "match", "contains", "outcome", "success")
+                .timer();
+        assertNotNull(service);
+        assertTrue(service.count() >= 1);
+        assertNotNull(meterRegistry.find(WorkationRepositoryCustomImpl.QUERY_TIMER).tag("query", "page.select").timer());
+        assertNotNull(meterRegistry.find(WorkationRepositoryCustomImpl.QUERY_TIMER).tag("query", "page.count").timer());
+        assertNotNull(meterRegistry.find(WebMetricsConfig.SERIALIZATION_TIMER).tag("type", "PageImpl").timer());
+    }
+
+    @Test
+    void testFailedLookup_IsTaggedAsError() throws Exception {
+        mockMvc.perform(get("/api/v1/workations/{id}", Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+
+        assertNotNull(meterRegistry.find(WorkationMetrics.SERVICE_TIMER)
+                .tags("operation", "get", "filters", "none", "outcome", "error")
+                .timer());
+    }
+
+    @Test
+    void testPrometheusEndpoint_ExportsHistogramBuckets() throws Exception {
+        mockMvc.perform(get("/api/v1/workations")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("workation_service_seconds_bucket")))
+                .andExpect(content().string(containsString("workation_query_seconds_bucket")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")))
+                .andExpect(content().string(containsString("hibernate_sessions_open_total")));
+    }
+
+    @Test
+    void testFiltersTag_IsBoundedToSetFilters() {
+        assertEquals("none", WorkationMetrics.filters(new WorkationFilter()));
+        assertEquals("employee+countryDest", WorkationMetrics.filters(
+                new WorkationFilter("anna", " ", "spain", null, null, null, null, null, SearchMode.EXACT)));
+        assertEquals("risk", WorkationMetrics.filters(new WorkationFilter(null, null, null, Risk.LOW_RISK, null, null, null, null, null)));
+        assertEquals("dates+days", WorkationMetrics.filters(new WorkationFilter(null, null, null, null,
+                LocalDate.of(2025, 3, 1), null, null, 30, null)));
+    }
+}
@@ -0,0 +1,226 @@
+package com.workflex.demonic.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workflex.demonic.exception.WorkationConflictException;
+import com.workflex.demonic.model.Workation;
+import com.workflex.demonic.repository.WorkationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.workflex.demonic.Workations.workation;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Not @Transactional: outbox rows are written when the service's own transaction commits. The
+ * dispatcher's schedule is effectively off; the tests drain by hand.
+ */
+@SpringBootTest(properties = {
+        "app.csv.import.enabled=false",
+        "app.outbox.poll-interval=PT1H",
+        "app.outbox.batch-size=2",
+        "app.outbox.max-attempts=3",
+        "app.outbox.initial-backoff=PT0S",
+        "app.outbox.retention=P1D"
+})
+class WorkationOutboxTests {
+
+    @Autowired
+    private WorkationService workationService;
+
+    @Autowired
+    private WorkationOutboxDispatcher dispatcher;
+
+    @Autowired
+    private RecordingSink sink;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private WorkationCache workationCache;
+
+    @Autowired
+    private WorkationOverlapIndex overlapIndex;
+
+    @Autowired
+    private WorkationDayBudget dayBudget;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        workationRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM workation_rollup");
+        jdbcTemplate.update("DELETE FROM workation_outbox");
+        workationCache.clear();
+        overlapIndex.rebuild();
+        dayBudget.rebuild();
+        sink.events.clear();
+        sink.failures.set(0);
+    }
+
+    @Test
+    void testChangesAreWrittenWithTheirTransactionAndDeliveredInOrder() throws Exception {
+        Workation created = workationService.createWorkation(workation("Jane Doe", LocalDate.of(2025, 3, 1), 10));
+        workationService.updateWorkation(created.getId(), workation("Jane Doe", LocalDate.of(2025, 3, 1), 12));
+        workationService.deleteWorkation(created.getId());
+        assertEquals(3, pending());
+
+        assertEquals(3, dispatcher.drain());
+
+        assertEquals(List.of(WorkationChange.Type.CREATED, WorkationChange.Type.UPDATED, WorkationChange.Type.DELETED),
+                sink.events.stream().map(WorkationOutboxEvent::type).toList());
+        JsonNode updated = objectMapper.readTree(sink.events.get(1).payload());
+        // Written after the flush, so the payload has the committed version
+        assertEquals(1, updated.get("version").asLong());
+        assertEquals(12, updated.get("days").asInt());
+        assertNull(sink.events.get(2).payload());
+        assertEquals(created.getId().longValue(), sink.events.get(2).workationId());
+        assertEquals(0, pending());
+    }
+
+    @Test
+    void testRolledBackChangesLeaveNoEvents() {
+        workationService.createWorkation(workation("Jane Doe", LocalDate.of(2025, 3, 1), 10));
+
+        assertThrows(WorkationConflictException.class, () ->
+                workationService.createWorkation(workation("Jane Doe", LocalDate.of(2025, 3, 5), 10)));
+
+        assertEquals(1, pending());
+    }
+
+    @Test
+    void testFailedEventIsRetriedBeforeTheEventsBehindIt() {
+        workationService.createWorkation(workation("First", LocalDate.of(2025, 3, 1), 10));
+        workationService.createWorkation(workation("Second", LocalDate.of(2025, 3, 1), 10));
+        sink.failures.set(1);
+
+        assertEquals(0, dispatcher.drain());
+        assertTrue(sink.events.isEmpty());
+        Map<String, Object> first = jdbcTemplate.queryForMap(
+                "SELECT attempts, last_error, dead FROM workation_outbox ORDER BY id FETCH FIRST 1 ROWS ONLY");
+        assertEquals(1, ((Number) first.get("ATTEMPTS")).intValue());
+        assertEquals("Sink unavailable", first.get("LAST_ERROR"));
+        assertEquals(false, first.get("DEAD"));
+
+        assertEquals(2, dispatcher.drain());
+        assertEquals(List.of("First", "Second"), employees());
+        assertEquals(0, pending());
+    }
+
+    @Test
+    void testEventIsMarkedDeadAfterMaxAttempts() {
+        workationService.createWorkation(workation("Poison", LocalDate.of(2025, 3, 1), 10));
+        workationService.createWorkation(workation("Healthy", LocalDate.of(2025, 3, 1), 10));
+        workationService.createWorkation(workation("Behind", LocalDate.of(2025, 3, 1), 10));
+        sink.failures.set(3);
+
+        assertEquals(0, dispatcher.drain());
+        assertEquals(0, dispatcher.drain());
+        // The third failure exhausts the attempts; delivery moves on to the next event, and the dead
+        // one counts towards its batch, so the drain goes on to the next batch
+        assertEquals(2, dispatcher.drain());
+
+        assertEquals(List.of("Healthy", "Behind"), employees());
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM workation_outbox WHERE dead = TRUE AND attempts = 3", Integer.class));
+        assertEquals(0, pending());
+    }
+
+    @Test
+    void testPruneDeletesOnlyDeadEventsPastTheRetentionWhileASinkExists() {
+        Timestamp old = Timestamp.from(Instant.now().minus(Duration.ofDays(2)));
+        Timestamp recent = Timestamp.from(Instant.now());
+        String insert = "INSERT INTO workation_outbox (event_type, workation_id, created_at, next_attempt_at, dead) " +
+                "VALUES ('DELETED', ?, ?, ?, ?)";
+        jdbcTemplate.update(insert, 1, old, old, true);
+        jdbcTemplate.update(insert, 2, old, old, false);
+        jdbcTemplate.update(insert, 3, recent, recent, true);
+
+        assertEquals(1, dispatcher.prune());
+
+        assertEquals(List.of(2L, 3L), jdbcTemplate.queryForList(
+                "SELECT workation_id FROM workation_outbox ORDER BY workation_id", Long.class));
+    }
+
+    @Test
+    void testFileSinkAppendsOneLinePerEvent(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("events/workations.ndjson");
+        FileEventSink fileSink = new FileEventSink(objectMapper, file);
+        fileSink.deliver(new WorkationOutboxEvent(7, WorkationChange.Type.UPDATED, 42, "{\"id\":42,\"days\":3}",
+                Instant.parse("2025-03-01T10:00:00Z"), 0));
+        fileSink.deliver(new WorkationOutboxEvent(8, WorkationChange.Type.DELETED, 42, null,
+                Instant.parse("2025-03-01T10:05:00Z"), 0));
+        fileSink.close();
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        JsonNode updated = objectMapper.readTree(lines.get(0));
+        assertEquals(7, updated.get("id").asLong());
+        assertEquals("UPDATED", updated.get("type").asText());
+        assertEquals(3, updated.get("workation").get("days").asInt());
+        assertTrue(objectMapper.readTree(lines.get(1)).get("workation").isNull());
+    }
+
+    private int pending() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM workation_outbox WHERE dead = FALSE", Integer.class);
+    }
+
+    private List<String> employees() {
+        return sink.events.stream().map(event -> {
+            try {
+                return objectMapper.readTree(event.payload()).get("employee").asText();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }).toList();
+    }
+
+    /**
+     * Keeps delivered events in memory and fails the next {@code failures} deliveries.
+     */
+    static class RecordingSink implements WorkationEventSink {
+
+        final List<WorkationOutboxEvent> events = new ArrayList<>();
+        final AtomicInteger failures = new AtomicInteger();
+
+        @Override
+        public void deliver(WorkationOutboxEvent event) {
+            if (failures.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+                throw new IllegalStateException("Sink unavailable");
+            }
+            events.add(event);
+        }
+    }
+
+    @TestConfiguration
+    static class SinkConfig {
+
+        @Bean
+        RecordingSink recordingSink() {
+            return new RecordingSink();
+        }
+    }
+}
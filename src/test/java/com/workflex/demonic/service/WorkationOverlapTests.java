@@ -0,0 +1,211 @@
+package com.workflex.demonic.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.workflex.demonic.dto.WorkationRequestDto;
+import com.workflex.demonic.exception.WorkationConflictException;
+import com.workflex.demonic.model.Workation;
+import com.workflex.demonic.repository.WorkationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+import static com.workflex.demonic.Workations.workation;
+import static com.workflex.demonic.Workations.request;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "app.csv.import.enabled=false")
+@AutoConfigureMockMvc
+class WorkationOverlapTests {
+
+    @Autowired
+    private WorkationService workationService;
+
+    @Autowired
+    private WorkationOverlapIndex overlapIndex;
+
+    @Autowired
+    private WorkationDayBudget dayBudget;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private WorkationCache workationCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        workationRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM workation_rollup");
+        workationCache.clear();
+        overlapIndex.rebuild();
+        dayBudget.rebuild();
+    }
+
+    @Test
+    void testCreate_RejectsOverlappingTripOfSameEmployee() throws Exception {
+        Workation first = workationService.createWorkation(workation("Jane Doe", LocalDate.of(2025, 3, 1), 10));
+
+        mockMvc.perform(post("/api/v1/workations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request(" jane DOE", "2025-03-05", "2025-03-20", 15))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Conflict"))
+                .andExpect(jsonPath("$.details", contains(first.getId().toString())));
+
+        // Starting on the day the previous trip ends, or another employee, is fine
+        mockMvc.perform(post("/api/v1/workations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request("Jane Doe", "2025-03-11", "2025-03-20", 9))))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/v1/workations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request("John Doe", "2025-03-05", "2025-03-20", 15))))
+                .andExpect(status().isCreated());
+
+        assertEquals(3, workationRepository.count());
+    }
+
+    @Test
+    void testUpdate_RejectsMovingTripOntoAnotherEmployeesOverlap() {
+        workationService.createWorkation(workation("Jane Doe", LocalDate.of(2025, 3, 1), 10));
+        Workation other = workationService.createWorkation(workation("John Doe", LocalDate.of(2025, 3, 5), 10));
+
+        Workation update = workation("Jane Doe", LocalDate.of(2025, 3, 5), 10);
+        assertThrows(WorkationConflictException.class, () -> workationService.updateWorkation(other.getId(), update));
+        assertEquals("John Doe", workationRepository.findById(other.getId()).orElseThrow().getEmployee());
+
+        // Updating a trip in place does not conflict with itself
+        workationService.updateWorkation(other.getId(), workation("John Doe", LocalDate.of(2025, 3, 5), 12));
+    }
+
+    @Test
+    void testUpdate_RejectsMovingDatesOntoAnotherTripOfSameEmployee() throws Exception {
+        Workation march = workationService.createWorkation(workation("Jane Doe", LocalDate.of(2025, 3, 1), 10));
+        Workation may = workationService.createWorkation(workation("Jane Doe", LocalDate.of(2025, 5, 1), 10));
+
+        Workation moved = workation("Jane Doe", LocalDate.of(2025, 3, 5), 10);
+        WorkationConflictException conflict = assertThrows(WorkationConflictException.class,
+                () -> workationService.updateWorkation(may.getId(), moved));
+        assertTrue(conflict.getMessage().contains(march.getId().toString()));
+        assertEquals(may.getStart_date().getTime(),
+                workationRepository.findById(may.getId()).orElseThrow().getStart_date().getTime());
+
+        mockMvc.perform(put("/api/v1/workations/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + batchUpdate(may.getId(), request("Jane Doe", "2025-03-05", "2025-03-15", 10)) + "]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].status").value(409));
+
+        // Moving it to free dates is applied, and the old dates are free again
+        Workation june = workationService.updateWorkation(may.getId(), workation("Jane Doe", LocalDate.of(2025, 6, 1), 10));
+        assertEquals(Date.from(LocalDate.of(2025, 6, 1).atStartOfDay(ZoneId.systemDefault()).toInstant()).getTime(),
+                workationRepository.findById(june.getId()).orElseThrow().getStart_date().getTime());
+        assertDoesNotThrow(() -> workationService.createWorkation(workation("Jane Doe", LocalDate.of(2025, 5, 1), 10)));
+    }
+
+    @Test
+    void testRollback_ReleasesReservedDates() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            workationService.createWorkation(workation("Jane Doe", LocalDate.of(2025, 3, 1), 10));
+            status.setRollbackOnly();
+        });
+
+        assertDoesNotThrow(() -> workationService.createWorkation(workation("Jane Doe", LocalDate.of(2025, 3, 1), 10)));
+    }
+
+    @Test
+    void testDelete_ReleasesDates() {
+        Workation first = workationService.createWorkation(workation("Jane Doe", LocalDate.of(2025, 3, 1), 10));
+        workationService.deleteWorkation(first.getId());
+
+        assertDoesNotThrow(() -> workationService.createWorkation(workation("Jane Doe", LocalDate.of(2025, 3, 1), 10)));
+    }
+
+    @Test
+    void testBatchCreate_ReportsConflictsWithinTheChunk() throws Exception {
+        WorkationRequestDto trip = request("Jane Doe", "2025-06-01", "2025-06-11", 10);
+
+        mockMvc.perform(post("/api/v1/workations/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new WorkationRequestDto[]{trip, trip})))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.results[0].status").value(201))
+                .andExpect(jsonPath("$.results[1].status").value(409))
+                .andExpect(jsonPath("$.results[1].error.details", hasSize(1)));
+
+        assertEquals(1, workationRepository.count());
+    }
+
+    @Test
+    void testOverlapsQuery_ReturnsTripsInRangeInStartOrder() throws Exception {
+        Workation march = workationService.createWorkation(workation("Jane Doe", LocalDate.of(2025, 3, 1), 10));
+        Workation february = workationService.createWorkation(workation("John Doe", LocalDate.of(2025, 2, 20), 20));
+        workationService.createWorkation(workation("Jane Doe", LocalDate.of(2025, 5, 1), 10));
+
+        mockMvc.perform(get("/api/v1/workations/overlaps")
+                        .param("from", "2025-03-05")
+                        .param("to", "2025-03-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id", contains(february.getId().intValue(), march.getId().intValue())));
+
+        mockMvc.perform(get("/api/v1/workations/overlaps")
+                        .param("from", "2025-03-01")
+                        .param("to", "2025-12-31")
+                        .param("employee", "jane doe")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(march.getId()));
+
+        mockMvc.perform(get("/api/v1/workations/overlaps")
+                        .param("from", "2025-04-01")
+                        .param("to", "2025-03-01"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testRebuild_IndexesRowsWrittenPastTheService() {
+        Workation saved = workationRepository.save(workation("Jane Doe", LocalDate.of(2025, 3, 1), 10));
+        overlapIndex.rebuild();
+
+        assertEquals(List.of(saved.getId()), overlapIndex.conflicts(workation("Jane Doe", LocalDate.of(2025, 3, 9), 5)));
+    }
+
+    private String batchUpdate(Long id, WorkationRequestDto request) throws Exception {
+        ObjectNode item = objectMapper.valueToTree(request);
+        return item.put("id", id).toString();
+    }
+}
@@ -0,0 +1,155 @@
+package com.workflex.demonic.service;
+
+import com.workflex.demonic.dto.WorkationStatsDto;
+import com.workflex.demonic.model.Risk;
+import com.workflex.demonic.model.Workation;
+import com.workflex.demonic.repository.WorkationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "app.csv.import.enabled=false")
+@AutoConfigureMockMvc
+class WorkationRollupTests {
+
+    @Autowired
+    private WorkationService workationService;
+
+    @Autowired
+    private WorkationRollup rollup;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private WorkationOverlapIndex overlapIndex;
+
+    @Autowired
+    private WorkationDayBudget dayBudget;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private int employees;
+
+    @BeforeEach
+    void setUp() {
+        workationRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM workation_rollup");
+        overlapIndex.rebuild();
+        dayBudget.rebuild();
+    }
+
+    @Test
+    void testRollup_FollowsCreateUpdateDelete() {
+        Workation a = workationService.createWorkation(workation("Germany", "Spain", LocalDate.of(2025, 3, 5), 10, Risk.NO_RISK));
+        workationService.createWorkation(workation("Germany", "Spain", LocalDate.of(2025, 3, 20), 20, Risk.NO_RISK));
+        Workation c = workationService.createWorkation(workation("France", "Japan", LocalDate.of(2025, 4, 1), 100, Risk.HIGH_RISK));
+
+        List<WorkationStatsDto> byRisk = rollup.summarize(List.of(StatsDimension.RISK));
+        assertEquals(2, byRisk.size());
+        WorkationStatsDto noRisk = byRisk.stream().filter(s -> s.getRisk() == Risk.NO_RISK).findFirst().orElseThrow();
+        assertEquals(2, noRisk.getCount());
+        assertEquals(30, noRisk.getTotalDays());
+        assertEquals(15.0, noRisk.getAverageDays());
+
+        workationService.updateWorkation(a.getId(), workation("Italy", "Spain", LocalDate.of(2025, 3, 5), 12, Risk.NO_RISK));
+        workationService.deleteWorkation(c.getId());
+        workationService.deleteWorkations(List.of(c.getId()));
+
+        assertMatchesRebuild();
+        List<WorkationStatsDto> byCountry = rollup.summarize(List.of(StatsDimension.COUNTRY));
+        assertEquals(List.of("Germany", "Italy"), byCountry.stream().map(WorkationStatsDto::getCountry).toList());
+    }
+
+    @Test
+    void testRollup_FollowsBatchOperations() {
+        List<Workation> created = workationService.createWorkations(List.of(
+                workation("Germany", "Spain", LocalDate.of(2025, 1, 10), 10, Risk.NO_RISK),
+                workation("Germany", "Spain", LocalDate.of(2025, 2, 10), 70, Risk.LOW_RISK),
+                workation("Spain", "Peru", LocalDate.of(2025, 2, 11), 150, Risk.HIGH_RISK)
+        )).stream().map(BatchItem::getValue).toList();
+
+        Workation update = workation("Portugal", "Spain", LocalDate.of(2025, 1, 10), 15, Risk.NO_RISK);
+        update.setId(created.get(0).getId());
+        workationService.updateWorkations(List.of(update));
+        workationService.deleteWorkations(List.of(created.get(2).getId()));
+
+        assertMatchesRebuild();
+        WorkationStatsDto total = rollup.summarize(List.of()).get(0);
+        assertEquals(2, total.getCount());
+        assertEquals(85, total.getTotalDays());
+    }
+
+    @Test
+    void testRollup_DeletesOnlyTheGroupsAChangeEmptied() {
+        Workation moved = workationService.createWorkation(workation("Germany", "Spain", LocalDate.of(2025, 3, 5), 10, Risk.NO_RISK));
+        Workation deleted = workationService.createWorkation(workation("France", "Japan", LocalDate.of(2025, 4, 1), 100, Risk.HIGH_RISK));
+        // An empty group no change touches; deleting it would mean sweeping the whole table
+        jdbcTemplate.update("INSERT INTO workation_rollup VALUES ('NO_RISK', 'Austria', 'Italy', '2024-01', 0, 0)");
+
+        workationService.updateWorkation(moved.getId(), workation("Italy", "Spain", LocalDate.of(2025, 3, 5), 10, Risk.NO_RISK));
+        workationService.deleteWorkations(List.of(deleted.getId()));
+
+        assertEquals(List.of("Austria", "Italy"), jdbcTemplate.queryForList(
+                "SELECT country FROM workation_rollup ORDER BY country", String.class));
+    }
+
+    @Test
+    void testAnalyticsEndpoint_GroupsByRequestedDimensions() throws Exception {
+        workationService.createWorkation(workation("Germany", "Spain", LocalDate.of(2025, 3, 5), 10, Risk.NO_RISK));
+        workationService.createWorkation(workation("Germany", "Spain", LocalDate.of(2025, 4, 5), 20, Risk.NO_RISK));
+
+        mockMvc.perform(get("/api/v1/workations/analytics").param("groupBy", "countryDest,month"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].countryDest").value("Spain"))
+                .andExpect(jsonPath("$[0].month").value("2025-03"))
+                .andExpect(jsonPath("$[0].count").value(1))
+                .andExpect(jsonPath("$[0].risk").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/workations/analytics").param("groupBy", "continent"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * The incrementally maintained rollup must equal one computed from scratch.
+     */
+    private void assertMatchesRebuild() {
+        EnumSet<StatsDimension> all = EnumSet.allOf(StatsDimension.class);
+        List<WorkationStatsDto> incremental = rollup.summarize(all);
+        rollup.rebuild();
+        assertEquals(rollup.summarize(all), incremental);
+    }
+
+    private Workation workation(String country, String countryDest, LocalDate start, int days, Risk risk) {
+        Workation workation = new Workation();
+        // A new employee per trip, so the overlap check never rejects a fixture
+        workation.setEmployee("Employee " + ++employees);
+        workation.setCountry(country);
+        workation.setCountry_dest(countryDest);
+        workation.setStart_date(Date.from(start.atStartOfDay(ZoneId.systemDefault()).toInstant()));
+        workation.setEnd_date(Date.from(start.plusDays(days).atStartOfDay(ZoneId.systemDefault()).toInstant()));
+        workation.setDays(days);
+        workation.setRisk(risk);
+        return workation;
+    }
+}
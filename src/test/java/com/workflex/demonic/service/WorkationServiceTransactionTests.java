@@ -0,0 +1,120 @@
+package com.workflex.demonic.service;
+
+import com.workflex.demonic.model.Risk;
+import com.workflex.demonic.model.Workation;
+import com.workflex.demonic.repository.WorkationRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "app.csv.import.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class WorkationServiceTransactionTests {
+
+    @Autowired
+    private WorkationService workationService;
+
+    @Autowired
+    private WorkationRepository workationRepository;
+
+    @Autowired
+    private WorkationCache workationCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Workation existing;
+
+    @BeforeEach
+    void setUp() {
+        workationRepository.deleteAll();
+        workationCache.clear();
+        existing = workationRepository.save(workation("Jane Doe"));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testGetById_LoadsNoEntities() {
+        workationService.getWorkationById(existing.getId());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testUpdate_SelectsOnceAndUpdatesOnce() {
+        workationService.updateWorkation(existing.getId(), workation("Jane Smith"));
+
+        // findById + UPDATE in one transaction, no merge SELECT
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityUpdateCount());
+        assertEquals(1, statistics.getSuccessfulTransactionCount());
+        assertEquals("Jane Smith", workationRepository.findById(existing.getId()).orElseThrow().getEmployee());
+    }
+
+    @Test
+    void testDelete_SelectsOnceAndDeletesOnce() {
+        workationService.deleteWorkation(existing.getId());
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityDeleteCount());
+        assertFalse(workationRepository.existsById(existing.getId()));
+    }
+
+    @Test
+    void testBatchCreate_RetriesItemsOfAFailedChunkOneByOne() {
+        // Too long for its column: fails the chunk's flush, and then only its own transaction
+        Workation tooLong = workation("x".repeat(300));
+
+        List<BatchItem<Workation>> results = workationService.createWorkations(
+                List.of(workation("Chunk One"), tooLong, workation("Chunk Two")));
+
+        assertTrue(results.get(0).isSuccess());
+        assertFalse(results.get(1).isSuccess());
+        assertTrue(results.get(2).isSuccess());
+        assertEquals(3, workationRepository.count());
+    }
+
+    @Test
+    void testBatchUpdate_RetriesItemsOfAFailedChunkOneByOne() {
+        Workation other = workationRepository.save(workation("John Doe"));
+        Workation tooLong = workation("Jane Doe");
+        tooLong.setId(existing.getId());
+        tooLong.setCountry("x".repeat(300));
+        Workation renamed = workation("John Roe");
+        renamed.setId(other.getId());
+
+        List<BatchItem<Workation>> results = workationService.updateWorkations(List.of(tooLong, renamed));
+
+        assertFalse(results.get(0).isSuccess());
+        assertTrue(results.get(1).isSuccess());
+        assertEquals("Germany", workationRepository.findById(existing.getId()).orElseThrow().getCountry());
+        assertEquals("John Roe", workationRepository.findById(other.getId()).orElseThrow().getEmployee());
+    }
+
+    private Workation workation(String employee) {
+        Workation workation = new Workation();
+        workation.setEmployee(employee);
+        workation.setCountry("Germany");
+        workation.setCountry_dest("Spain");
+        workation.setStart_date(new Date());
+        workation.setEnd_date(new Date());
+        workation.setDays(10);
+        workation.setRisk(Risk.NO_RISK);
+        return workation;
+    }
+}